@@ -0,0 +1,79 @@
+package com.edudeveloper.delivery.Courier.Management.benchmark;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.Courier;
+import com.edudeveloper.delivery.Courier.Management.domain.service.CourierDispatcher;
+import com.edudeveloper.delivery.Courier.Management.domain.service.CourierPositionIndex;
+import com.edudeveloper.delivery.Courier.Management.domain.service.CourierRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Escolha do entregador menos carregado em frotas grandes: índice ordenado do CourierDispatcher
+// contra uma varredura completa do registro, como referência.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourierDispatcherBenchmark {
+
+    @Param({"1000", "100000"})
+    private int courierCount;
+
+    private CourierRegistry registry;
+    private CourierDispatcher dispatcher;
+    private UUID[] courierIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new CourierRegistry();
+        dispatcher = new CourierDispatcher(registry, new CourierPositionIndex());
+        courierIds = new UUID[courierCount];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < courierCount; i++) {
+            Courier courier = Courier.brandNew("Entregador " + i, null);
+            registry.register(courier);
+            courierIds[i] = courier.getId();
+            // Carga inicial variada para que o índice não fique trivialmente ordenado
+            for (int j = random.nextInt(4); j > 0; j--) {
+                registry.assign(courier.getId(), new UUID(random.nextLong(), random.nextLong()));
+            }
+        }
+    }
+
+    // Atribui ao menos carregado e conclui a entrega, mantendo a distribuição de carga estável
+    @Benchmark
+    public UUID assignAndFulfill() {
+        UUID deliveryId = randomDeliveryId();
+        UUID courierId = dispatcher.assign(deliveryId);
+        registry.fulfill(courierId, deliveryId);
+        return courierId;
+    }
+
+    @Benchmark
+    public UUID selectCourier() {
+        return dispatcher.selectCourier().orElseThrow();
+    }
+
+    @Benchmark
+    public UUID fullScanSelection() {
+        UUID selected = null;
+        int fewestPending = Integer.MAX_VALUE;
+        for (UUID courierId : courierIds) {
+            int pending = registry.read(courierId, Courier::getPendingDeliveriesQuantity);
+            if (pending < fewestPending) {
+                fewestPending = pending;
+                selected = courierId;
+            }
+        }
+        return selected;
+    }
+
+    private static UUID randomDeliveryId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,65 @@
+package com.edudeveloper.delivery.Courier.Management.benchmark;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.CourierDistance;
+import com.edudeveloper.delivery.Courier.Management.domain.service.CourierPositionIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Consulta dos k entregadores mais próximos e atualização de posição, com a frota espalhada
+// por uma área metropolitana (~45 x 55 km)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourierPositionIndexBenchmark {
+
+    private static final double MIN_LATITUDE = -23.80;
+    private static final double MIN_LONGITUDE = -46.90;
+    private static final double LATITUDE_SPAN = 0.40;
+    private static final double LONGITUDE_SPAN = 0.50;
+
+    @Param({"10000", "100000"})
+    private int courierCount;
+
+    @Param({"10"})
+    private int k;
+
+    private CourierPositionIndex index;
+    private UUID[] courierIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new CourierPositionIndex();
+        courierIds = new UUID[courierCount];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < courierCount; i++) {
+            courierIds[i] = new UUID(random.nextLong(), random.nextLong());
+            index.update(courierIds[i], randomLatitude(), randomLongitude());
+        }
+    }
+
+    @Benchmark
+    public List<CourierDistance> nearest() {
+        return index.nearest(randomLatitude(), randomLongitude(), k, 10_000);
+    }
+
+    @Benchmark
+    public void updatePosition() {
+        UUID courierId = courierIds[ThreadLocalRandom.current().nextInt(courierIds.length)];
+        index.update(courierId, randomLatitude(), randomLongitude());
+    }
+
+    private static double randomLatitude() {
+        return MIN_LATITUDE + ThreadLocalRandom.current().nextDouble() * LATITUDE_SPAN;
+    }
+
+    private static double randomLongitude() {
+        return MIN_LONGITUDE + ThreadLocalRandom.current().nextDouble() * LONGITUDE_SPAN;
+    }
+}
@@ -0,0 +1,68 @@
+package com.edudeveloper.delivery.Courier.Management.benchmark;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.Courier;
+import com.edudeveloper.delivery.Courier.Management.domain.service.CourierRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Contenção no registro de entregadores: atribuir e concluir entregas a partir de várias threads.
+// O cenário globalLock serializa as mesmas operações em um único lock, como referência.
+// Execute com -t (threads) variando, por exemplo: -t 1,4,8
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourierRegistryBenchmark {
+
+    @Param({"1", "64", "4096"})
+    private int courierCount;
+
+    private CourierRegistry registry;
+    private UUID[] courierIds;
+    private final Object globalLock = new Object();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        registry = new CourierRegistry();
+        courierIds = new UUID[courierCount];
+        for (int i = 0; i < courierCount; i++) {
+            Courier courier = Courier.brandNew("Entregador " + i, null);
+            registry.register(courier);
+            courierIds[i] = courier.getId();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void stripedAssignAndFulfill() {
+        UUID courierId = randomCourier();
+        UUID deliveryId = randomDeliveryId();
+        registry.assign(courierId, deliveryId);
+        registry.fulfill(courierId, deliveryId);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void globalLockAssignAndFulfill() {
+        UUID courierId = randomCourier();
+        UUID deliveryId = randomDeliveryId();
+        synchronized (globalLock) {
+            registry.assign(courierId, deliveryId);
+            registry.fulfill(courierId, deliveryId);
+        }
+    }
+
+    private UUID randomCourier() {
+        return courierIds[ThreadLocalRandom.current().nextInt(courierIds.length)];
+    }
+
+    private static UUID randomDeliveryId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
@@ -1,4 +1,28 @@
 package com.edudeveloper.delivery.Courier.Management.domain.model;
 
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
 public class AssignedDelivery {
+
+    // Mesmo id da Delivery no Delivery-Trackin
+    @EqualsAndHashCode.Include
+    private UUID id;
+
+    private OffsetDateTime assignedAt;
+
+    // Static Factory
+    static AssignedDelivery pending(UUID deliveryId, OffsetDateTime assignedAt)
+    {
+        AssignedDelivery delivery = new AssignedDelivery();
+        delivery.setId(deliveryId);
+        delivery.setAssignedAt(assignedAt);
+        return delivery;
+    }
 }
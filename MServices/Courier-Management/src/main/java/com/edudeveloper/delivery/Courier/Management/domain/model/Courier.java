@@ -1,4 +1,73 @@
 package com.edudeveloper.delivery.Courier.Management.domain.model;
 
+import com.edudeveloper.delivery.Courier.Management.domain.model.exception.DomainException;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
 public class Courier {
+
+    @EqualsAndHashCode.Include
+    private UUID id;
+
+    @Setter(AccessLevel.PUBLIC)
+    private String name;
+
+    @Setter(AccessLevel.PUBLIC)
+    private String phone;
+
+    private Integer fulfilledDeliveriesQuantity;
+    private Integer pendingDeliveriesQuantity;
+
+    private OffsetDateTime lastFulfilledDeliveryAt;
+
+    private List<AssignedDelivery> pendingDeliveries = new ArrayList<>();
+
+    // Static Factory
+    public static Courier brandNew(String name, String phone)
+    {
+        Courier courier = new Courier();
+        courier.setId(UUID.randomUUID());
+        courier.setName(name);
+        courier.setPhone(phone);
+        courier.setFulfilledDeliveriesQuantity(0);
+        courier.setPendingDeliveriesQuantity(0);
+        return courier;
+    }
+
+    // Idempotente: o evento de atribuição pode ser reentregue e não deve contar a mesma entrega duas vezes
+    public void assign(UUID deliveryId)
+    {
+        if(this.pendingDeliveries.stream().anyMatch(delivery -> delivery.getId().equals(deliveryId)))
+        {
+            return;
+        }
+        this.pendingDeliveries.add(AssignedDelivery.pending(deliveryId, OffsetDateTime.now()));
+        this.setPendingDeliveriesQuantity(this.getPendingDeliveriesQuantity() + 1);
+    }
+
+    public void fulfill(UUID deliveryId)
+    {
+        boolean removed = this.pendingDeliveries.removeIf(delivery -> delivery.getId().equals(deliveryId));
+        if(!removed)
+        {
+            throw new DomainException("Entrega " + deliveryId + " não está pendente para o entregador " + getId());
+        }
+        this.setPendingDeliveriesQuantity(this.getPendingDeliveriesQuantity() - 1);
+        this.setFulfilledDeliveriesQuantity(this.getFulfilledDeliveriesQuantity() + 1);
+        this.setLastFulfilledDeliveryAt(OffsetDateTime.now());
+    }
+
+    public List<AssignedDelivery> getPendingDeliveries()
+    {
+        return Collections.unmodifiableList(this.pendingDeliveries);
+    }
 }
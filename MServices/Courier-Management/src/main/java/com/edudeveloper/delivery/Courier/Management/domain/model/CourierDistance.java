@@ -0,0 +1,17 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CourierDistance {
+    private UUID courierId;
+    private double distanceInMeters;
+}
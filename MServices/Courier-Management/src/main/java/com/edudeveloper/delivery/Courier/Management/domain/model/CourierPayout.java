@@ -0,0 +1,9 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record CourierPayout(UUID courierId,
+                            BigDecimal amount,
+                            long deliveries) {
+}
@@ -0,0 +1,20 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+// Value Object - última posição conhecida de um entregador (graus decimais WGS84)
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CourierPosition {
+    private UUID courierId;
+    private double latitude;
+    private double longitude;
+    private long reportedAtMillis;
+}
@@ -0,0 +1,45 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Entrega concluída por um entregador, com o repasse devido; base do fechamento de repasses
+@Entity
+@Table(name = "fulfilled_delivery", indexes =
+        @Index(name = "idx_fulfilled_delivery_fulfilled_at_id", columnList = "fulfilled_at, delivery_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
+public class FulfilledDelivery {
+
+    // Mesmo id da Delivery no Delivery-Trackin
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "delivery_id")
+    private UUID deliveryId;
+
+    @Column(nullable = false)
+    private UUID courierId;
+
+    @Column(name = "fulfilled_at", nullable = false)
+    private OffsetDateTime fulfilledAt;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal courierPayout;
+
+    // Static Factory
+    public static FulfilledDelivery of(UUID deliveryId, UUID courierId, OffsetDateTime fulfilledAt, BigDecimal courierPayout)
+    {
+        FulfilledDelivery delivery = new FulfilledDelivery();
+        delivery.setDeliveryId(deliveryId);
+        delivery.setCourierId(courierId);
+        delivery.setFulfilledAt(fulfilledAt);
+        delivery.setCourierPayout(courierPayout);
+        return delivery;
+    }
+}
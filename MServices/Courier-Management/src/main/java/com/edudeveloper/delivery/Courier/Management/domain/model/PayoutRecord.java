@@ -0,0 +1,11 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Linha lida pelo fechamento: repasse de uma entrega já convertido para centavos
+public record PayoutRecord(UUID deliveryId,
+                           UUID courierId,
+                           OffsetDateTime fulfilledAt,
+                           long payoutCents) {
+}
@@ -0,0 +1,11 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// Resultado do fechamento de um período [from, to); payouts ordenados pelo id do entregador
+public record PayoutSettlement(OffsetDateTime from,
+                               OffsetDateTime to,
+                               long records,
+                               List<CourierPayout> payouts) {
+}
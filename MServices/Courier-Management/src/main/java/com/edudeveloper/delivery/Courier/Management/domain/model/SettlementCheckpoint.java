@@ -0,0 +1,68 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Progresso salvo de um fechamento: cursor do keyset (fulfilledAt, deliveryId) e os totais parciais
+// até ele, gravados juntos. Um fechamento interrompido recomeça do último checkpoint.
+@Entity
+@Table(name = "settlement_checkpoint")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
+public class SettlementCheckpoint {
+
+    // Período no formato from/to, em UTC
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(length = 100)
+    private String id;
+
+    private OffsetDateTime cursorFulfilledAt;
+    private UUID cursorDeliveryId;
+
+    private long records;
+
+    // Uma linha por entregador: courierId;centavos;entregas
+    @Lob
+    @Column(nullable = false)
+    private String totals;
+
+    private boolean completed;
+
+    private OffsetDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    // Static Factory
+    public static SettlementCheckpoint start(String id)
+    {
+        SettlementCheckpoint checkpoint = new SettlementCheckpoint();
+        checkpoint.setId(id);
+        checkpoint.setTotals("");
+        checkpoint.setUpdatedAt(OffsetDateTime.now());
+        return checkpoint;
+    }
+
+    public void advance(OffsetDateTime cursorFulfilledAt, UUID cursorDeliveryId, long records, String totals)
+    {
+        this.setCursorFulfilledAt(cursorFulfilledAt);
+        this.setCursorDeliveryId(cursorDeliveryId);
+        this.setRecords(records);
+        this.setTotals(totals);
+        this.setUpdatedAt(OffsetDateTime.now());
+    }
+
+    public void complete(long records, String totals)
+    {
+        this.setRecords(records);
+        this.setTotals(totals);
+        this.setCompleted(true);
+        this.setUpdatedAt(OffsetDateTime.now());
+    }
+}
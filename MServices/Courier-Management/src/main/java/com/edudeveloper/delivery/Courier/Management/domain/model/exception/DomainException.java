@@ -0,0 +1,14 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model.exception;
+
+public class DomainException extends RuntimeException{
+    public DomainException() {
+    }
+
+    public DomainException(String message) {
+        super(message);
+    }
+
+    public DomainException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
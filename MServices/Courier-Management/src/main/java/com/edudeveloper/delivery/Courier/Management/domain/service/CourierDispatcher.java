@@ -0,0 +1,117 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.Courier;
+import com.edudeveloper.delivery.Courier.Management.domain.model.CourierDistance;
+import com.edudeveloper.delivery.Courier.Management.domain.model.exception.DomainException;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Escolhe o entregador para uma entrega em WAITING_FOR_COURIER: menos entregas pendentes primeiro e,
+// no empate, o que está há mais tempo sem concluir uma entrega. O índice é uma skip list ordenada
+// atualizada pelo CourierRegistry, então escolher e reposicionar um entregador custa O(log n).
+@Component
+public class CourierDispatcher implements CourierLoadListener {
+
+    private final CourierRegistry courierRegistry;
+    private final CourierPositionIndex courierPositionIndex;
+    private final ConcurrentSkipListSet<LoadKey> index = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<UUID, LoadKey> currentKeys = new ConcurrentHashMap<>();
+
+    public CourierDispatcher(CourierRegistry courierRegistry, CourierPositionIndex courierPositionIndex) {
+        this.courierRegistry = courierRegistry;
+        this.courierPositionIndex = courierPositionIndex;
+        courierRegistry.subscribe(this);
+    }
+
+    public Optional<UUID> selectCourier() {
+        LoadKey first = firstOrNull();
+        return first == null ? Optional.empty() : Optional.of(first.courierId);
+    }
+
+    // Atribui a entrega ao entregador menos carregado. Duas atribuições simultâneas podem escolher o mesmo
+    // entregador; a ordem é reequilibrada na atribuição seguinte.
+    public UUID assign(UUID deliveryId) {
+        UUID courierId = selectCourier()
+                .orElseThrow(() -> new DomainException("Nenhum entregador disponível para a entrega " + deliveryId));
+        courierRegistry.assign(courierId, deliveryId);
+        return courierId;
+    }
+
+    // Entre os `candidates` entregadores mais próximos do remetente, escolhe o menos carregado
+    // (empate: o mais próximo)
+    public Optional<UUID> selectNearestCourier(double latitude, double longitude, int candidates, double maxDistanceInMeters) {
+        List<CourierDistance> nearest = courierPositionIndex.nearest(latitude, longitude, candidates, maxDistanceInMeters);
+        UUID selected = null;
+        int fewestPending = Integer.MAX_VALUE;
+        for (CourierDistance candidate : nearest) {
+            LoadKey key = currentKeys.get(candidate.getCourierId());
+            if (key != null && key.pendingDeliveries < fewestPending) {
+                fewestPending = key.pendingDeliveries;
+                selected = candidate.getCourierId();
+            }
+        }
+        return Optional.ofNullable(selected);
+    }
+
+    public UUID assignNearest(UUID deliveryId, double latitude, double longitude, int candidates, double maxDistanceInMeters) {
+        UUID courierId = selectNearestCourier(latitude, longitude, candidates, maxDistanceInMeters)
+                .orElseThrow(() -> new DomainException("Nenhum entregador próximo disponível para a entrega " + deliveryId));
+        courierRegistry.assign(courierId, deliveryId);
+        return courierId;
+    }
+
+    // Chamado com o lock do entregador: as atualizações de um mesmo entregador nunca se intercalam
+    @Override
+    public void loadChanged(Courier courier) {
+        LoadKey key = LoadKey.of(courier);
+        LoadKey previous = currentKeys.put(courier.getId(), key);
+        if (previous != null) {
+            index.remove(previous);
+        }
+        index.add(key);
+    }
+
+    public int size() {
+        return currentKeys.size();
+    }
+
+    // O conjunto pode esvaziar entre a checagem e a leitura, então first() é tratado diretamente
+    private LoadKey firstOrNull() {
+        try {
+            return index.first();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    private record LoadKey(int pendingDeliveries, long lastFulfilledAtMillis, UUID courierId)
+            implements Comparable<LoadKey> {
+
+        static LoadKey of(Courier courier) {
+            OffsetDateTime lastFulfilledAt = courier.getLastFulfilledDeliveryAt();
+            long lastFulfilledAtMillis = lastFulfilledAt == null
+                    ? Long.MIN_VALUE
+                    : lastFulfilledAt.toInstant().toEpochMilli();
+            return new LoadKey(courier.getPendingDeliveriesQuantity(), lastFulfilledAtMillis, courier.getId());
+        }
+
+        @Override
+        public int compareTo(LoadKey other) {
+            int result = Integer.compare(pendingDeliveries, other.pendingDeliveries);
+            if (result == 0) {
+                result = Long.compare(lastFulfilledAtMillis, other.lastFulfilledAtMillis);
+            }
+            if (result == 0) {
+                result = courierId.compareTo(other.courierId);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.Courier;
+
+// Notificado pelo CourierRegistry sempre que a carga de um entregador muda.
+// Chamado com o lock do entregador adquirido: deve ser rápido e não pode chamar o registro.
+@FunctionalInterface
+public interface CourierLoadListener {
+    void loadChanged(Courier courier);
+}
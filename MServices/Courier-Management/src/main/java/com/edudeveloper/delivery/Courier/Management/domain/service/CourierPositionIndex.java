@@ -0,0 +1,185 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.CourierDistance;
+import com.edudeveloper.delivery.Courier.Management.domain.model.CourierPosition;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+// Índice espacial em grade (células de tamanho fixo em graus) das posições dos entregadores.
+// Atualizações e consultas usam apenas ConcurrentHashMap: uma atualização nunca bloqueia consultas.
+// Atualizações do mesmo entregador são serializadas pelo compute da sua entrada em `positions`, que
+// troca a célula antes de publicar a nova posição. Durante a troca uma consulta pode ver o id em duas
+// células (ignora a que não é a da posição atual) ou deixá-lo de fora por um instante.
+@Component
+public class CourierPositionIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    // 0,01 grau ~ 1,1 km de altura por célula
+    private static final double DEFAULT_CELL_SIZE_DEGREES = 0.01;
+    private static final int MAX_RINGS = 200;
+
+    private final double cellSizeDegrees;
+    private final ConcurrentHashMap<UUID, CourierPosition> positions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<UUID>> cells = new ConcurrentHashMap<>();
+
+    public CourierPositionIndex() {
+        this(DEFAULT_CELL_SIZE_DEGREES);
+    }
+
+    public CourierPositionIndex(double cellSizeDegrees) {
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    public void update(UUID courierId, double latitude, double longitude) {
+        CourierPosition position = new CourierPosition(courierId, latitude, longitude, System.currentTimeMillis());
+        long cell = cellOf(latitude, longitude);
+        positions.compute(courierId, (id, previous) -> {
+            long previousCell = previous == null ? cell : cellOf(previous.getLatitude(), previous.getLongitude());
+            // Caso comum: continua na mesma célula e já é membro dela
+            if (previousCell == cell && isMember(cell, courierId)) {
+                return position;
+            }
+            cells.compute(cell, (key, members) -> {
+                Set<UUID> result = members == null ? ConcurrentHashMap.newKeySet() : members;
+                result.add(courierId);
+                return result;
+            });
+            if (previousCell != cell) {
+                removeFromCell(previousCell, courierId);
+            }
+            return position;
+        });
+    }
+
+    public void remove(UUID courierId) {
+        positions.computeIfPresent(courierId, (id, previous) -> {
+            removeFromCell(cellOf(previous.getLatitude(), previous.getLongitude()), courierId);
+            return null;
+        });
+    }
+
+    public Optional<CourierPosition> positionOf(UUID courierId) {
+        return Optional.ofNullable(positions.get(courierId));
+    }
+
+    // Os k entregadores mais próximos do ponto, do mais perto para o mais longe, em até maxDistanceInMeters.
+    // Percorre anéis de células a partir da célula do ponto e para quando nenhum anel seguinte pode ter
+    // alguém mais perto do que o k-ésimo encontrado.
+    public List<CourierDistance> nearest(double latitude, double longitude, int k, double maxDistanceInMeters) {
+        if (k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<CourierDistance> best = new PriorityQueue<>(k,
+                Comparator.comparingDouble(CourierDistance::getDistanceInMeters).reversed());
+        int centerRow = row(latitude);
+        int centerColumn = column(longitude);
+        double ringWidthInMeters = minimumCellDimensionInMeters(latitude);
+
+        for (int ring = 0; ring <= MAX_RINGS; ring++) {
+            double ringMinimumDistance = Math.max(0, ring - 1) * ringWidthInMeters;
+            if (ringMinimumDistance > maxDistanceInMeters) {
+                break;
+            }
+            if (best.size() == k && ringMinimumDistance > best.peek().getDistanceInMeters()) {
+                break;
+            }
+            visitRing(centerRow, centerColumn, ring, cell -> collect(cell, latitude, longitude, k, maxDistanceInMeters, best));
+        }
+
+        List<CourierDistance> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(CourierDistance::getDistanceInMeters));
+        return result;
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    public static double distanceInMeters(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double deltaLatitude = Math.toRadians(toLatitude - fromLatitude);
+        double deltaLongitude = Math.toRadians(toLongitude - fromLongitude);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void collect(long cell, double latitude, double longitude, int k, double maxDistanceInMeters,
+                         PriorityQueue<CourierDistance> best) {
+        Set<UUID> members = cells.get(cell);
+        if (members == null) {
+            return;
+        }
+        for (UUID courierId : members) {
+            CourierPosition position = positions.get(courierId);
+            if (position == null || cellOf(position.getLatitude(), position.getLongitude()) != cell) {
+                continue;
+            }
+            double distance = distanceInMeters(latitude, longitude, position.getLatitude(), position.getLongitude());
+            if (distance > maxDistanceInMeters) {
+                continue;
+            }
+            if (best.size() < k) {
+                best.add(new CourierDistance(courierId, distance));
+            } else if (distance < best.peek().getDistanceInMeters()) {
+                best.poll();
+                best.add(new CourierDistance(courierId, distance));
+            }
+        }
+    }
+
+    private void visitRing(int centerRow, int centerColumn, int ring, LongConsumer visitor) {
+        if (ring == 0) {
+            visitor.accept(cellKey(centerRow, centerColumn));
+            return;
+        }
+        for (int column = centerColumn - ring; column <= centerColumn + ring; column++) {
+            visitor.accept(cellKey(centerRow - ring, column));
+            visitor.accept(cellKey(centerRow + ring, column));
+        }
+        for (int row = centerRow - ring + 1; row <= centerRow + ring - 1; row++) {
+            visitor.accept(cellKey(row, centerColumn - ring));
+            visitor.accept(cellKey(row, centerColumn + ring));
+        }
+    }
+
+    private boolean isMember(long cell, UUID courierId) {
+        Set<UUID> members = cells.get(cell);
+        return members != null && members.contains(courierId);
+    }
+
+    private void removeFromCell(long cell, UUID courierId) {
+        cells.computeIfPresent(cell, (key, members) -> {
+            members.remove(courierId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    // A largura de uma célula em metros diminui com a latitude (cos), a altura é constante
+    private double minimumCellDimensionInMeters(double latitude) {
+        double height = cellSizeDegrees * METERS_PER_DEGREE;
+        double width = height * Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + cellSizeDegrees * MAX_RINGS)));
+        return Math.min(height, width);
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return cellKey(row(latitude), column(longitude));
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellSizeDegrees);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor(longitude / cellSizeDegrees);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+}
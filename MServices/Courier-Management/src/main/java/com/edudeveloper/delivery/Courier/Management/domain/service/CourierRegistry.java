@@ -0,0 +1,119 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.Courier;
+import com.edudeveloper.delivery.Courier.Management.domain.model.exception.DomainException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Registro em memória dos entregadores. Cada entregador é protegido por uma faixa (stripe) de locks
+// escolhida pelo hash do id: operações em entregadores diferentes rodam em paralelo sem lock global.
+// ReentrantLock em vez de synchronized para não prender carrier threads de virtual threads.
+@Component
+public class CourierRegistry {
+
+    private static final int DEFAULT_STRIPES = 256;
+
+    private final ConcurrentHashMap<UUID, Courier> couriers = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private final int stripeMask;
+    private final List<CourierLoadListener> listeners = new CopyOnWriteArrayList<>();
+
+    public CourierRegistry() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public CourierRegistry(int stripes) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    public void subscribe(CourierLoadListener listener) {
+        listeners.add(listener);
+    }
+
+    public void register(Courier courier) {
+        ReentrantLock lock = stripeFor(courier.getId());
+        lock.lock();
+        try {
+            if (couriers.putIfAbsent(courier.getId(), courier) != null) {
+                throw new DomainException("Entregador já registrado: " + courier.getId());
+            }
+            notifyListeners(courier);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void assign(UUID courierId, UUID deliveryId) {
+        update(courierId, courier -> courier.assign(deliveryId));
+    }
+
+    public void fulfill(UUID courierId, UUID deliveryId) {
+        update(courierId, courier -> courier.fulfill(deliveryId));
+    }
+
+    // Leitura consistente de um entregador; o resultado não deve expor o objeto mutável
+    public <T> T read(UUID courierId, Function<Courier, T> reader) {
+        Courier courier = findCourier(courierId);
+        ReentrantLock lock = stripeFor(courierId);
+        lock.lock();
+        try {
+            return reader.apply(courier);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean contains(UUID courierId) {
+        return couriers.containsKey(courierId);
+    }
+
+    public int size() {
+        return couriers.size();
+    }
+
+    private void update(UUID courierId, Consumer<Courier> change) {
+        Courier courier = findCourier(courierId);
+        ReentrantLock lock = stripeFor(courierId);
+        lock.lock();
+        try {
+            change.accept(courier);
+            notifyListeners(courier);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void notifyListeners(Courier courier) {
+        for (CourierLoadListener listener : listeners) {
+            listener.loadChanged(courier);
+        }
+    }
+
+    private Courier findCourier(UUID courierId) {
+        Courier courier = couriers.get(courierId);
+        if (courier == null) {
+            throw new DomainException("Entregador não encontrado: " + courierId);
+        }
+        return courier;
+    }
+
+    private ReentrantLock stripeFor(UUID courierId) {
+        int hash = courierId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+}
@@ -0,0 +1,9 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PayoutSettlementProperties.class)
+public class CourierServiceConfig {
+}
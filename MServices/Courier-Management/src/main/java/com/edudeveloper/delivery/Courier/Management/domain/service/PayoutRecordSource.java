@@ -0,0 +1,16 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.PayoutRecord;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Leitura em blocos das entregas concluídas em [from, to), em ordem de (fulfilledAt, deliveryId),
+// a partir do cursor exclusivo (afterFulfilledAt, afterDeliveryId)
+@FunctionalInterface
+public interface PayoutRecordSource {
+
+    List<PayoutRecord> readChunk(OffsetDateTime from, OffsetDateTime to,
+                                 OffsetDateTime afterFulfilledAt, UUID afterDeliveryId, int limit);
+}
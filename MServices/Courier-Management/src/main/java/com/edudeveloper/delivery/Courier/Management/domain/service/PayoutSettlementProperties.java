@@ -0,0 +1,25 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "courier.settlement")
+public class PayoutSettlementProperties {
+
+    // Registros lidos por consulta do keyset
+    private int chunkSize = 5000;
+
+    // Threads da agregação; 0 usa a quantidade de núcleos
+    private int parallelism = 0;
+
+    // Grava o checkpoint a cada N blocos
+    private int checkpointEvery = 10;
+
+    // Só fecha períodos encerrados há pelo menos esse tempo, para entregas concluídas com atraso entrarem
+    private Duration closeGrace = Duration.ofHours(6);
+}
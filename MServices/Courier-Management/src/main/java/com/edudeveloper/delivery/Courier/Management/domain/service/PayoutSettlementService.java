@@ -0,0 +1,206 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.CourierPayout;
+import com.edudeveloper.delivery.Courier.Management.domain.model.PayoutRecord;
+import com.edudeveloper.delivery.Courier.Management.domain.model.PayoutSettlement;
+import com.edudeveloper.delivery.Courier.Management.domain.model.SettlementCheckpoint;
+import com.edudeveloper.delivery.Courier.Management.infrastructure.persistence.SettlementCheckpointRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// Fechamento de repasses por entregador em um período [from, to).
+// As entregas são lidas em blocos pelo keyset (fulfilledAt, deliveryId), com o próximo bloco já sendo
+// buscado enquanto o atual é agregado. Cada bloco é dividido em fatias somadas em paralelo no fork-join,
+// cada fatia com seu próprio acumulador em centavos (long), e as fatias são juntadas sempre na mesma ordem:
+// o resultado não depende da quantidade de threads nem da ordem em que terminam.
+// A cada checkpointEvery blocos o cursor e os totais parciais são gravados juntos; uma nova execução do
+// mesmo período continua a partir dali, e um período concluído devolve o resultado gravado.
+// Só aceita períodos já encerrados há closeGrace: um período aberto ficaria concluído sem as entregas futuras.
+@Service
+public class PayoutSettlementService {
+
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    private final PayoutRecordSource payoutRecordSource;
+    private final SettlementCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PayoutSettlementProperties properties;
+
+    public PayoutSettlementService(PayoutRecordSource payoutRecordSource,
+                                   SettlementCheckpointRepository checkpointRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   PayoutSettlementProperties properties) {
+        this.payoutRecordSource = payoutRecordSource;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    // Mês fechado em UTC
+    public PayoutSettlement settle(YearMonth month) {
+        OffsetDateTime from = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        return settle(from, from.plusMonths(1));
+    }
+
+    public PayoutSettlement settle(OffsetDateTime from, OffsetDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Período inválido: from precisa ser anterior a to");
+        }
+        if (to.plus(properties.getCloseGrace()).isAfter(OffsetDateTime.now(ZoneOffset.UTC))) {
+            throw new IllegalArgumentException("Período ainda aberto: só pode ser fechado após " + to.plus(properties.getCloseGrace()));
+        }
+        from = from.withOffsetSameInstant(ZoneOffset.UTC);
+        to = to.withOffsetSameInstant(ZoneOffset.UTC);
+        String checkpointId = from + "/" + to;
+
+        SettlementCheckpoint checkpoint = checkpointRepository.findById(checkpointId)
+                .orElseGet(() -> SettlementCheckpoint.start(checkpointId));
+        Map<UUID, long[]> totals = decode(checkpoint.getTotals());
+        if (checkpoint.isCompleted()) {
+            return toSettlement(from, to, checkpoint.getRecords(), totals);
+        }
+
+        OffsetDateTime cursorAt = checkpoint.getCursorFulfilledAt() != null ? checkpoint.getCursorFulfilledAt() : from;
+        UUID cursorId = checkpoint.getCursorDeliveryId() != null ? checkpoint.getCursorDeliveryId() : MIN_ID;
+        long records = checkpoint.getRecords();
+        int chunkSize = properties.getChunkSize();
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<List<PayoutRecord>> next = readAsync(reader, from, to, cursorAt, cursorId, chunkSize);
+            int chunksSinceCheckpoint = 0;
+            while (true) {
+                List<PayoutRecord> chunk = join(next);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                PayoutRecord last = chunk.getLast();
+                cursorAt = last.fulfilledAt();
+                cursorId = last.deliveryId();
+                // Um bloco incompleto é o último; não precisa de outra consulta
+                next = chunk.size() < chunkSize
+                        ? CompletableFuture.completedFuture(List.of())
+                        : readAsync(reader, from, to, cursorAt, cursorId, chunkSize);
+
+                merge(totals, aggregate(pool, chunk, parallelism));
+                records += chunk.size();
+
+                if (++chunksSinceCheckpoint >= properties.getCheckpointEvery()) {
+                    checkpoint.advance(cursorAt, cursorId, records, encode(totals));
+                    checkpoint = save(checkpoint);
+                    chunksSinceCheckpoint = 0;
+                }
+            }
+        } finally {
+            reader.shutdownNow();
+            pool.shutdownNow();
+        }
+
+        checkpoint.complete(records, encode(totals));
+        save(checkpoint);
+        return toSettlement(from, to, records, totals);
+    }
+
+    private CompletableFuture<List<PayoutRecord>> readAsync(ExecutorService reader,
+                                                            OffsetDateTime from, OffsetDateTime to,
+                                                            OffsetDateTime cursorAt, UUID cursorId, int chunkSize) {
+        return CompletableFuture.supplyAsync(
+                () -> payoutRecordSource.readChunk(from, to, cursorAt, cursorId, chunkSize), reader);
+    }
+
+    private static List<PayoutRecord> join(CompletableFuture<List<PayoutRecord>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Fatias contíguas do bloco, somadas em paralelo e devolvidas na ordem das fatias
+    private static List<Map<UUID, long[]>> aggregate(ForkJoinPool pool, List<PayoutRecord> chunk, int parallelism) {
+        int sliceSize = Math.ceilDiv(chunk.size(), parallelism);
+        List<ForkJoinTask<Map<UUID, long[]>>> tasks = new ArrayList<>(parallelism);
+        for (int start = 0; start < chunk.size(); start += sliceSize) {
+            List<PayoutRecord> slice = chunk.subList(start, Math.min(start + sliceSize, chunk.size()));
+            tasks.add(pool.submit(() -> sum(slice)));
+        }
+        List<Map<UUID, long[]>> partials = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<Map<UUID, long[]>> task : tasks) {
+            partials.add(task.join());
+        }
+        return partials;
+    }
+
+    // Acumulador por entregador: [0] centavos, [1] entregas
+    private static Map<UUID, long[]> sum(List<PayoutRecord> slice) {
+        Map<UUID, long[]> partial = new HashMap<>();
+        for (PayoutRecord record : slice) {
+            long[] accumulator = partial.computeIfAbsent(record.courierId(), id -> new long[2]);
+            accumulator[0] = Math.addExact(accumulator[0], record.payoutCents());
+            accumulator[1]++;
+        }
+        return partial;
+    }
+
+    private static void merge(Map<UUID, long[]> totals, List<Map<UUID, long[]>> partials) {
+        for (Map<UUID, long[]> partial : partials) {
+            partial.forEach((courierId, accumulator) -> {
+                long[] total = totals.computeIfAbsent(courierId, id -> new long[2]);
+                total[0] = Math.addExact(total[0], accumulator[0]);
+                total[1] += accumulator[1];
+            });
+        }
+    }
+
+    private SettlementCheckpoint save(SettlementCheckpoint checkpoint) {
+        return transactionTemplate.execute(status -> checkpointRepository.save(checkpoint));
+    }
+
+    private static PayoutSettlement toSettlement(OffsetDateTime from, OffsetDateTime to,
+                                                 long records, Map<UUID, long[]> totals) {
+        List<CourierPayout> payouts = new TreeMap<>(totals).entrySet().stream()
+                .map(e -> new CourierPayout(e.getKey(), BigDecimal.valueOf(e.getValue()[0], 2), e.getValue()[1]))
+                .toList();
+        return new PayoutSettlement(from, to, records, payouts);
+    }
+
+    // Linhas courierId;centavos;entregas, ordenadas pelo id para o texto gravado ser estável
+    private static String encode(Map<UUID, long[]> totals) {
+        StringBuilder text = new StringBuilder();
+        new TreeMap<>(totals).forEach((courierId, total) ->
+                text.append(courierId).append(';').append(total[0]).append(';').append(total[1]).append('\n'));
+        return text.toString();
+    }
+
+    private static Map<UUID, long[]> decode(String text) {
+        Map<UUID, long[]> totals = new HashMap<>();
+        for (String line : text.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = line.split(";");
+            totals.put(UUID.fromString(fields[0]), new long[]{Long.parseLong(fields[1]), Long.parseLong(fields[2])});
+        }
+        return totals;
+    }
+}
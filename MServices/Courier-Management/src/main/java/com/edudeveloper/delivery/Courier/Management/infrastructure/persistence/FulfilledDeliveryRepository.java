@@ -0,0 +1,34 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.persistence;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.FulfilledDelivery;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface FulfilledDeliveryRepository extends JpaRepository<FulfilledDelivery, UUID> {
+
+    // Keyset: próximo bloco depois do cursor (afterFulfilledAt, afterDeliveryId), em ordem de (fulfilledAt, deliveryId)
+    @Query("""
+            select new com.edudeveloper.delivery.Courier.Management.infrastructure.persistence.FulfilledDeliveryRow(
+                d.deliveryId, d.courierId, d.fulfilledAt, d.courierPayout)
+            from FulfilledDelivery d
+            where d.fulfilledAt >= :afterFulfilledAt and d.fulfilledAt < :to
+              and (d.fulfilledAt > :afterFulfilledAt or d.deliveryId > :afterDeliveryId)
+            order by d.fulfilledAt, d.deliveryId
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    List<FulfilledDeliveryRow> findFulfilledAfter(@Param("afterFulfilledAt") OffsetDateTime afterFulfilledAt,
+                                                  @Param("afterDeliveryId") UUID afterDeliveryId,
+                                                  @Param("to") OffsetDateTime to,
+                                                  Limit limit);
+}
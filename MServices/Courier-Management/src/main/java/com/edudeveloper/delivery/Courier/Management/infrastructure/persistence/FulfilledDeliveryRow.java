@@ -0,0 +1,12 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Projeção lida pelo keyset, sem entidades gerenciadas no contexto de persistência
+public record FulfilledDeliveryRow(UUID deliveryId,
+                                   UUID courierId,
+                                   OffsetDateTime fulfilledAt,
+                                   BigDecimal courierPayout) {
+}
@@ -0,0 +1,39 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.persistence;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.PayoutRecord;
+import com.edudeveloper.delivery.Courier.Management.domain.service.PayoutRecordSource;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.RoundingMode;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Cada bloco é lido em uma transação curta e somente leitura
+@Component
+public class JpaPayoutRecordSource implements PayoutRecordSource {
+
+    private final FulfilledDeliveryRepository fulfilledDeliveryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JpaPayoutRecordSource(FulfilledDeliveryRepository fulfilledDeliveryRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.fulfilledDeliveryRepository = fulfilledDeliveryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<PayoutRecord> readChunk(OffsetDateTime from, OffsetDateTime to,
+                                        OffsetDateTime afterFulfilledAt, UUID afterDeliveryId, int limit) {
+        List<FulfilledDeliveryRow> rows = readOnlyTransaction.execute(status ->
+                fulfilledDeliveryRepository.findFulfilledAfter(afterFulfilledAt, afterDeliveryId, to, Limit.of(limit)));
+        return rows.stream()
+                .map(row -> new PayoutRecord(row.deliveryId(), row.courierId(), row.fulfilledAt(),
+                        row.courierPayout().setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact()))
+                .toList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.persistence;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.SettlementCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SettlementCheckpointRepository extends JpaRepository<SettlementCheckpoint, String> {
+}
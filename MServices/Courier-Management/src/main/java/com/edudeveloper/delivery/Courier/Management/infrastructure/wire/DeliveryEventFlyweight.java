@@ -0,0 +1,136 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.wire;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.edudeveloper.delivery.Courier.Management.infrastructure.wire.DeliveryEventCodec.*;
+
+// Leitor reutilizável de um quadro de eventos: os campos são lidos direto do buffer, sem cópia e sem
+// criar objetos por evento (salvo deliveryId(), courierId() e toMessage(), que montam os valores).
+// Não altera a posição do buffer. Não é thread-safe: uma instância por thread.
+public final class DeliveryEventFlyweight {
+
+    private static final DeliveryEventType[] TYPES = DeliveryEventType.values();
+    private static final DeliveryStatus[] STATUSES = DeliveryStatus.values();
+
+    private ByteBuffer buffer;
+    private int start;
+    private int firstRecord;
+    private int count;
+    private int index;
+    private int offset;
+
+    // Posiciona no quadro que começa na posição atual de buffer, antes do primeiro evento
+    public DeliveryEventFlyweight wrap(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (start >= buffer.limit() || buffer.get(start) != VERSION) {
+            throw new IllegalArgumentException("Quadro de eventos com versão desconhecida");
+        }
+        long varint = readVarint(buffer, start + 1);
+        int count = (int) varint;
+        int firstRecord = start + 1 + (int) (varint >>> 32);
+        if (count < 0 || (long) count * RECORD_SIZE > buffer.limit() - firstRecord) {
+            throw new IllegalArgumentException("Quadro de eventos truncado: " + count + " eventos anunciados");
+        }
+        this.buffer = buffer;
+        this.start = start;
+        this.firstRecord = firstRecord;
+        this.count = count;
+        this.index = -1;
+        this.offset = -1;
+        return this;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int frameSize() {
+        return firstRecord - start + count * RECORD_SIZE;
+    }
+
+    public boolean next() {
+        if (index + 1 >= count) {
+            return false;
+        }
+        moveTo(index + 1);
+        return true;
+    }
+
+    public DeliveryEventFlyweight moveTo(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        this.index = index;
+        this.offset = firstRecord + index * RECORD_SIZE;
+        return this;
+    }
+
+    // Os ordinais vêm do fio: fora da faixa conhecida é quadro corrompido ou de uma versão mais nova
+    public DeliveryEventType type() {
+        int type = Byte.toUnsignedInt(buffer.get(offset + TYPE));
+        if (type >= TYPES.length) {
+            throw new IllegalArgumentException("Tipo de evento desconhecido no quadro: " + type);
+        }
+        return TYPES[type];
+    }
+
+    public DeliveryStatus status() {
+        byte value = buffer.get(offset + STATUS);
+        if (value == NO_STATUS) {
+            return null;
+        }
+        int status = Byte.toUnsignedInt(value);
+        if (status >= STATUSES.length) {
+            throw new IllegalArgumentException("Status de entrega desconhecido no quadro: " + status);
+        }
+        return STATUSES[status];
+    }
+
+    public long deliveryIdMostSigBits() {
+        return buffer.getLong(offset + DELIVERY_ID);
+    }
+
+    public long deliveryIdLeastSigBits() {
+        return buffer.getLong(offset + DELIVERY_ID + Long.BYTES);
+    }
+
+    public UUID deliveryId() {
+        return new UUID(deliveryIdMostSigBits(), deliveryIdLeastSigBits());
+    }
+
+    public boolean hasCourier() {
+        return (buffer.get(offset + FLAGS) & HAS_COURIER) != 0;
+    }
+
+    public long courierIdMostSigBits() {
+        return buffer.getLong(offset + COURIER_ID);
+    }
+
+    public long courierIdLeastSigBits() {
+        return buffer.getLong(offset + COURIER_ID + Long.BYTES);
+    }
+
+    public UUID courierId() {
+        return hasCourier() ? new UUID(courierIdMostSigBits(), courierIdLeastSigBits()) : null;
+    }
+
+    public long occurredAtMillis() {
+        return buffer.getLong(offset + OCCURRED_AT);
+    }
+
+    public boolean hasReferenceAt() {
+        return (buffer.get(offset + FLAGS) & HAS_REFERENCE_AT) != 0;
+    }
+
+    public long referenceAtMillis() {
+        return buffer.getLong(offset + REFERENCE_AT);
+    }
+
+    public DeliveryEventMessage toMessage() {
+        return new DeliveryEventMessage(type(), deliveryId(), courierId(), status(),
+                Instant.ofEpochMilli(occurredAtMillis()),
+                hasReferenceAt() ? Instant.ofEpochMilli(referenceAtMillis()) : null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.wire;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Evento de entrega como chega pelo fio. courierId, status e referenceAt são opcionais;
+// referenceAt é o prazo previsto (PLACED, LATE) ou o momento da postagem (UNASSIGNED_TOO_LONG).
+public record DeliveryEventMessage(DeliveryEventType type,
+                                   UUID deliveryId,
+                                   UUID courierId,
+                                   DeliveryStatus status,
+                                   Instant occurredAt,
+                                   Instant referenceAt) {
+}
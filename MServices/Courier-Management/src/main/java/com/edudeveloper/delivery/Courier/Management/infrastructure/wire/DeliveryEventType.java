@@ -0,0 +1,10 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.wire;
+
+// Tipos de evento recebidos do Delivery-Trackin, na mesma ordem de lá. O ordinal vai no fio: só acrescentar no fim.
+public enum DeliveryEventType {
+    PLACED,
+    PICKED_UP,
+    FULFILLED,
+    LATE,
+    UNASSIGNED_TOO_LONG
+}
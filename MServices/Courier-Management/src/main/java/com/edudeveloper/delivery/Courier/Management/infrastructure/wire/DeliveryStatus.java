@@ -0,0 +1,9 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.wire;
+
+// Status da entrega no Delivery-Trackin. O ordinal vai no fio: a ordem precisa ser a mesma de lá.
+public enum DeliveryStatus {
+    DRAFT,
+    WAITING_FOR_COURIER,
+    IN_TRANSIT,
+    DELIVERY
+}
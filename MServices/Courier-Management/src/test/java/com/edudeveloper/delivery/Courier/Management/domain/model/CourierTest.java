@@ -0,0 +1,87 @@
+package com.edudeveloper.delivery.Courier.Management.domain.model;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.exception.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierTest {
+
+    private Courier courier;
+
+    @BeforeEach
+    void setUp() {
+        courier = Courier.brandNew("Carlos Souza", "11977777777");
+    }
+
+    @Test
+    void shouldCreateCourierWithoutDeliveries() {
+        assertNotNull(courier.getId());
+        assertEquals(0, courier.getPendingDeliveriesQuantity());
+        assertEquals(0, courier.getFulfilledDeliveriesQuantity());
+        assertNull(courier.getLastFulfilledDeliveryAt());
+        assertTrue(courier.getPendingDeliveries().isEmpty());
+    }
+
+    @Test
+    void shouldAssignDelivery() {
+        // Given
+        UUID deliveryId = UUID.randomUUID();
+
+        // When
+        courier.assign(deliveryId);
+
+        // Then
+        assertEquals(1, courier.getPendingDeliveriesQuantity());
+        assertEquals(deliveryId, courier.getPendingDeliveries().get(0).getId());
+        assertNotNull(courier.getPendingDeliveries().get(0).getAssignedAt());
+    }
+
+    @Test
+    void shouldIgnoreRedeliveredAssignment() {
+        // Given
+        UUID deliveryId = UUID.randomUUID();
+        courier.assign(deliveryId);
+
+        // When
+        courier.assign(deliveryId);
+        courier.fulfill(deliveryId);
+
+        // Then - contador e lista continuam de acordo
+        assertEquals(0, courier.getPendingDeliveriesQuantity());
+        assertTrue(courier.getPendingDeliveries().isEmpty());
+        assertEquals(1, courier.getFulfilledDeliveriesQuantity());
+    }
+
+    @Test
+    void shouldFulfillDelivery() {
+        // Given
+        UUID deliveryId = UUID.randomUUID();
+        courier.assign(deliveryId);
+        courier.assign(UUID.randomUUID());
+
+        // When
+        courier.fulfill(deliveryId);
+
+        // Then
+        assertEquals(1, courier.getPendingDeliveriesQuantity());
+        assertEquals(1, courier.getFulfilledDeliveriesQuantity());
+        assertNotNull(courier.getLastFulfilledDeliveryAt());
+        assertFalse(courier.getPendingDeliveries().stream().anyMatch(d -> d.getId().equals(deliveryId)));
+    }
+
+    @Test
+    void shouldNotFulfillDeliveryThatIsNotPending() {
+        assertThrows(DomainException.class, () -> courier.fulfill(UUID.randomUUID()));
+        assertEquals(0, courier.getFulfilledDeliveriesQuantity());
+    }
+
+    @Test
+    void shouldReturnUnmodifiablePendingDeliveries() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> courier.getPendingDeliveries().add(AssignedDelivery.pending(UUID.randomUUID(), null)));
+    }
+}
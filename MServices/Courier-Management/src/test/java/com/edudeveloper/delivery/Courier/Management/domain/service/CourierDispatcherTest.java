@@ -0,0 +1,100 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.Courier;
+import com.edudeveloper.delivery.Courier.Management.domain.model.exception.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierDispatcherTest {
+
+    private CourierRegistry registry;
+    private CourierDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CourierRegistry(8);
+        dispatcher = new CourierDispatcher(registry, new CourierPositionIndex());
+    }
+
+    @Test
+    void shouldFailWhenThereAreNoCouriers() {
+        assertTrue(dispatcher.selectCourier().isEmpty());
+        assertThrows(DomainException.class, () -> dispatcher.assign(UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldSelectCourierWithFewestPendingDeliveries() {
+        // Given
+        Courier busy = register("Ocupado");
+        Courier free = register("Livre");
+        registry.assign(busy.getId(), UUID.randomUUID());
+
+        // When & Then
+        assertEquals(free.getId(), dispatcher.selectCourier().orElseThrow());
+    }
+
+    @Test
+    void shouldPreferCourierIdleForLongerOnTie() throws InterruptedException {
+        // Given
+        Courier first = register("Primeiro");
+        Courier second = register("Segundo");
+        UUID firstDelivery = UUID.randomUUID();
+        UUID secondDelivery = UUID.randomUUID();
+        registry.assign(first.getId(), firstDelivery);
+        registry.assign(second.getId(), secondDelivery);
+
+        registry.fulfill(second.getId(), secondDelivery);
+        Thread.sleep(5);
+        registry.fulfill(first.getId(), firstDelivery);
+
+        // When & Then
+        assertEquals(second.getId(), dispatcher.selectCourier().orElseThrow());
+    }
+
+    @Test
+    void shouldSpreadAssignmentsAcrossCouriers() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            register("Entregador " + i);
+        }
+
+        // When
+        for (int i = 0; i < 30; i++) {
+            dispatcher.assign(UUID.randomUUID());
+        }
+
+        // Then
+        assertEquals(10, dispatcher.size());
+        UUID next = dispatcher.selectCourier().orElseThrow();
+        assertEquals(3, registry.read(next, Courier::getPendingDeliveriesQuantity));
+    }
+
+    @Test
+    void shouldSelectLeastLoadedAmongNearestCouriers() {
+        // Given
+        CourierPositionIndex positions = new CourierPositionIndex();
+        dispatcher = new CourierDispatcher(registry, positions);
+        Courier nearBusy = register("Perto e ocupado");
+        Courier nearFree = register("Perto e livre");
+        Courier far = register("Longe");
+        registry.assign(nearBusy.getId(), UUID.randomUUID());
+        positions.update(nearBusy.getId(), -23.5610, -46.6560);
+        positions.update(nearFree.getId(), -23.5640, -46.6600);
+        positions.update(far.getId(), -22.9068, -43.1729);
+
+        // When & Then
+        assertEquals(nearFree.getId(), dispatcher.selectNearestCourier(-23.5613, -46.6565, 2, 10_000).orElseThrow());
+        assertEquals(nearBusy.getId(), dispatcher.selectNearestCourier(-23.5613, -46.6565, 1, 10_000).orElseThrow());
+        assertTrue(dispatcher.selectNearestCourier(-3.7319, -38.5267, 3, 10_000).isEmpty());
+    }
+
+    private Courier register(String name) {
+        Courier courier = Courier.brandNew(name, null);
+        registry.register(courier);
+        return courier;
+    }
+}
@@ -0,0 +1,119 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.CourierDistance;
+import com.edudeveloper.delivery.Courier.Management.domain.model.CourierPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierPositionIndexTest {
+
+    private final CourierPositionIndex index = new CourierPositionIndex();
+
+    @Test
+    void shouldCalculateHaversineDistance() {
+        // Praça da Sé -> Avenida Paulista (MASP): ~2,6 km em linha reta
+        double distance = CourierPositionIndex.distanceInMeters(-23.5505, -46.6333, -23.5614, -46.6559);
+        assertEquals(2600, distance, 300);
+    }
+
+    @Test
+    void shouldMoveCourierBetweenCells() {
+        // Given
+        UUID courierId = UUID.randomUUID();
+        index.update(courierId, -23.5505, -46.6333);
+
+        // When
+        index.update(courierId, -22.9068, -43.1729);
+
+        // Then
+        assertTrue(index.nearest(-23.5505, -46.6333, 1, 5_000).isEmpty());
+        assertEquals(courierId, index.nearest(-22.9068, -43.1729, 1, 5_000).get(0).getCourierId());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldKeepCourierVisibleAfterConcurrentMovesOfTheSameCourier() throws Exception {
+        // Given - São Paulo e Rio, células distintas
+        UUID courierId = UUID.randomUUID();
+        double[][] places = {{-23.5505, -46.6333}, {-22.9068, -43.1729}};
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 2_000; round++) {
+                index.update(courierId, places[0][0], places[0][1]);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> moves = new ArrayList<>();
+                for (double[] place : List.of(places[1], places[0])) {
+                    moves.add(executor.submit(() -> {
+                        start.await();
+                        index.update(courierId, place[0], place[1]);
+                        return null;
+                    }));
+                }
+
+                // When
+                start.countDown();
+                for (Future<?> move : moves) {
+                    move.get(10, TimeUnit.SECONDS);
+                }
+
+                // Then - encontrado onde está, e só lá
+                CourierPosition position = index.positionOf(courierId).orElseThrow();
+                double[] other = position.getLatitude() == places[0][0] ? places[1] : places[0];
+                assertEquals(List.of(courierId), index.nearest(position.getLatitude(), position.getLongitude(), 1, 5_000)
+                        .stream().map(CourierDistance::getCourierId).toList(), "rodada " + round);
+                assertTrue(index.nearest(other[0], other[1], 1, 5_000).isEmpty(), "rodada " + round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRemoveCourier() {
+        // Given
+        UUID courierId = UUID.randomUUID();
+        index.update(courierId, -23.5505, -46.6333);
+
+        // When
+        index.remove(courierId);
+
+        // Then
+        assertTrue(index.positionOf(courierId).isEmpty());
+        assertTrue(index.nearest(-23.5505, -46.6333, 1, 5_000).isEmpty());
+    }
+
+    @Test
+    void shouldMatchBruteForceNearestNeighbours() {
+        // Given
+        Random random = new Random(42);
+        Map<UUID, double[]> couriers = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            UUID courierId = UUID.randomUUID();
+            double latitude = -23.70 + random.nextDouble() * 0.40;
+            double longitude = -46.85 + random.nextDouble() * 0.50;
+            couriers.put(courierId, new double[]{latitude, longitude});
+            index.update(courierId, latitude, longitude);
+        }
+
+        for (int query = 0; query < 50; query++) {
+            double latitude = -23.70 + random.nextDouble() * 0.40;
+            double longitude = -46.85 + random.nextDouble() * 0.50;
+
+            // When
+            List<CourierDistance> nearest = index.nearest(latitude, longitude, 5, 50_000);
+
+            // Then
+            List<UUID> expected = couriers.entrySet().stream()
+                    .sorted(Comparator.comparingDouble(e -> CourierPositionIndex.distanceInMeters(
+                            latitude, longitude, e.getValue()[0], e.getValue()[1])))
+                    .limit(5)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            assertEquals(expected, nearest.stream().map(CourierDistance::getCourierId).toList());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.Courier;
+import com.edudeveloper.delivery.Courier.Management.domain.model.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierRegistryTest {
+
+    private final CourierRegistry registry = new CourierRegistry(8);
+
+    @Test
+    void shouldAssignAndFulfillThroughTheRegistry() {
+        // Given
+        Courier courier = Courier.brandNew("Carlos Souza", "11977777777");
+        registry.register(courier);
+        UUID deliveryId = UUID.randomUUID();
+
+        // When
+        registry.assign(courier.getId(), deliveryId);
+        registry.fulfill(courier.getId(), deliveryId);
+
+        // Then
+        assertEquals(1, registry.read(courier.getId(), Courier::getFulfilledDeliveriesQuantity));
+        assertEquals(0, registry.read(courier.getId(), Courier::getPendingDeliveriesQuantity));
+    }
+
+    @Test
+    void shouldRejectUnknownAndDuplicatedCouriers() {
+        Courier courier = Courier.brandNew("Carlos Souza", "11977777777");
+        registry.register(courier);
+
+        assertThrows(DomainException.class, () -> registry.register(courier));
+        assertThrows(DomainException.class, () -> registry.assign(UUID.randomUUID(), UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldKeepCountersConsistentUnderConcurrentAssignments() throws Exception {
+        // Given
+        List<UUID> courierIds = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Courier courier = Courier.brandNew("Entregador " + i, null);
+            registry.register(courier);
+            courierIds.add(courier.getId());
+        }
+        int threads = 8;
+        int operationsPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < operationsPerThread; i++) {
+                    UUID courierId = courierIds.get(random.nextInt(courierIds.size()));
+                    UUID deliveryId = UUID.randomUUID();
+                    registry.assign(courierId, deliveryId);
+                    if (i % 2 == 0) {
+                        registry.fulfill(courierId, deliveryId);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        int pending = 0;
+        int fulfilled = 0;
+        for (UUID courierId : courierIds) {
+            pending += registry.read(courierId, Courier::getPendingDeliveriesQuantity);
+            fulfilled += registry.read(courierId, Courier::getFulfilledDeliveriesQuantity);
+            assertEquals(registry.read(courierId, Courier::getPendingDeliveriesQuantity),
+                    registry.read(courierId, courier -> courier.getPendingDeliveries().size()));
+        }
+        assertEquals(threads * operationsPerThread / 2, pending);
+        assertEquals(threads * operationsPerThread / 2, fulfilled);
+    }
+}
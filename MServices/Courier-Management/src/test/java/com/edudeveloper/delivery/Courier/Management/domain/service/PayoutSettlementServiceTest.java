@@ -0,0 +1,169 @@
+package com.edudeveloper.delivery.Courier.Management.domain.service;
+
+import com.edudeveloper.delivery.Courier.Management.domain.model.CourierPayout;
+import com.edudeveloper.delivery.Courier.Management.domain.model.FulfilledDelivery;
+import com.edudeveloper.delivery.Courier.Management.domain.model.PayoutSettlement;
+import com.edudeveloper.delivery.Courier.Management.domain.model.SettlementCheckpoint;
+import com.edudeveloper.delivery.Courier.Management.infrastructure.persistence.FulfilledDeliveryRepository;
+import com.edudeveloper.delivery.Courier.Management.infrastructure.persistence.SettlementCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PayoutSettlementServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+    private static final OffsetDateTime FROM = MONTH.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+
+    @Autowired
+    private PayoutSettlementService payoutSettlementService;
+
+    @Autowired
+    private PayoutRecordSource payoutRecordSource;
+
+    @Autowired
+    private FulfilledDeliveryRepository fulfilledDeliveryRepository;
+
+    @Autowired
+    private SettlementCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<UUID, BigDecimal> expected = new HashMap<>();
+    private final Map<UUID, Long> expectedCount = new HashMap<>();
+    private int expectedRecords;
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepository.deleteAll();
+        fulfilledDeliveryRepository.deleteAll();
+        Random random = new Random(42);
+        List<UUID> couriers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            couriers.add(UUID.randomUUID());
+        }
+        List<FulfilledDelivery> deliveries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            UUID courierId = couriers.get(random.nextInt(couriers.size()));
+            // Alguns horários se repetem para exercitar o desempate pelo id no keyset
+            OffsetDateTime fulfilledAt = FROM.plusMinutes(random.nextInt(31 * 24 * 60 / 5) * 5L);
+            BigDecimal payout = BigDecimal.valueOf(500 + random.nextInt(5000), 2);
+            deliveries.add(FulfilledDelivery.of(UUID.randomUUID(), courierId, fulfilledAt, payout));
+            expected.merge(courierId, payout, BigDecimal::add);
+            expectedCount.merge(courierId, 1L, Long::sum);
+            expectedRecords++;
+        }
+        // Fora do período: limites [from, to)
+        deliveries.add(FulfilledDelivery.of(UUID.randomUUID(), couriers.get(0), FROM.minusNanos(1000), BigDecimal.TEN));
+        deliveries.add(FulfilledDelivery.of(UUID.randomUUID(), couriers.get(0), FROM.plusMonths(1), BigDecimal.TEN));
+        fulfilledDeliveryRepository.saveAll(deliveries);
+    }
+
+    @Test
+    void shouldSumPayoutsPerCourier() {
+        // When
+        PayoutSettlement settlement = payoutSettlementService.settle(MONTH);
+
+        // Then
+        assertEquals(expectedRecords, settlement.records());
+        assertEquals(expected.size(), settlement.payouts().size());
+        for (CourierPayout payout : settlement.payouts()) {
+            assertEquals(0, expected.get(payout.courierId()).compareTo(payout.amount()));
+            assertEquals(expectedCount.get(payout.courierId()), payout.deliveries());
+        }
+        List<UUID> ids = settlement.payouts().stream().map(CourierPayout::courierId).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertTrue(checkpointRepository.findAll().stream().allMatch(SettlementCheckpoint::isCompleted));
+    }
+
+    @Test
+    void shouldProduceSameResultRegardlessOfParallelism() {
+        // When
+        PayoutSettlement sequential = service(payoutRecordSource, 1).settle(MONTH);
+        checkpointRepository.deleteAll();
+        PayoutSettlement parallel = service(payoutRecordSource, 4).settle(MONTH);
+
+        // Then
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void shouldResumeFromCheckpointAfterFailure() {
+        // Given: a leitura falha no sexto bloco; o checkpoint do quarto bloco já foi gravado
+        AtomicInteger reads = new AtomicInteger();
+        PayoutRecordSource failing = (from, to, afterAt, afterId, limit) -> {
+            if (reads.incrementAndGet() > 5) {
+                throw new IllegalStateException("conexão perdida");
+            }
+            return payoutRecordSource.readChunk(from, to, afterAt, afterId, limit);
+        };
+        assertThrows(IllegalStateException.class, () -> service(failing, 2).settle(MONTH));
+
+        SettlementCheckpoint checkpoint = checkpointRepository.findAll().getFirst();
+        assertFalse(checkpoint.isCompleted());
+        assertEquals(200, checkpoint.getRecords());
+
+        // When
+        AtomicInteger resumedReads = new AtomicInteger();
+        PayoutRecordSource counting = (from, to, afterAt, afterId, limit) -> {
+            resumedReads.incrementAndGet();
+            return payoutRecordSource.readChunk(from, to, afterAt, afterId, limit);
+        };
+        PayoutSettlement resumed = service(counting, 2).settle(MONTH);
+
+        // Then
+        assertEquals(expectedRecords, resumed.records());
+        Map<UUID, BigDecimal> amounts = resumed.payouts().stream()
+                .collect(Collectors.toMap(CourierPayout::courierId, CourierPayout::amount));
+        expected.forEach((courierId, amount) -> assertEquals(0, amount.compareTo(amounts.get(courierId))));
+        // Só os blocos depois do checkpoint, mais a leitura vazia que encerra o último bloco cheio
+        assertEquals((expectedRecords - 200) / 50 + 1, resumedReads.get());
+    }
+
+    @Test
+    void shouldReturnStoredResultWhenAlreadyCompleted() {
+        // Given
+        PayoutSettlement first = payoutSettlementService.settle(MONTH);
+
+        // When
+        PayoutSettlement second = service((from, to, afterAt, afterId, limit) -> {
+            throw new AssertionError("período concluído não deve ser relido");
+        }, 4).settle(MONTH);
+
+        // Then
+        assertEquals(first, second);
+    }
+
+    @Test
+    void shouldRejectPeriodsThatAreNotClosedYet() {
+        // Given
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        // When / Then - o mês corrente e um período encerrado dentro da carência
+        assertThrows(IllegalArgumentException.class, () -> payoutSettlementService.settle(YearMonth.now(ZoneOffset.UTC)));
+        assertThrows(IllegalArgumentException.class, () -> payoutSettlementService.settle(now.minusDays(1), now.minusMinutes(5)));
+        assertTrue(checkpointRepository.findAll().isEmpty());
+    }
+
+    private PayoutSettlementService service(PayoutRecordSource source, int parallelism) {
+        PayoutSettlementProperties properties = new PayoutSettlementProperties();
+        properties.setChunkSize(50);
+        properties.setCheckpointEvery(2);
+        properties.setParallelism(parallelism);
+        return new PayoutSettlementService(source, checkpointRepository, transactionManager, properties);
+    }
+}
@@ -0,0 +1,82 @@
+package com.edudeveloper.delivery.Courier.Management.infrastructure.wire;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryEventCodecTest {
+
+    // Mesmo quadro de referência codificado no teste do Delivery-Trackin
+    private static final String FULFILLED_FRAME = "0101020301000000000000000001000000000000000200000000000000030000000000000004"
+            + "00000000000003e80000000000000000";
+
+    @Test
+    void shouldDecodeFramePublishedByDeliveryTrackin() {
+        // Given
+        ByteBuffer buffer = ByteBuffer.wrap(HexFormat.of().parseHex(FULFILLED_FRAME));
+
+        // When
+        List<DeliveryEventMessage> messages = DeliveryEventCodec.decode(buffer);
+
+        // Then
+        assertEquals(List.of(new DeliveryEventMessage(DeliveryEventType.FULFILLED, new UUID(1, 2), new UUID(3, 4),
+                DeliveryStatus.DELIVERY, Instant.ofEpochMilli(1000), null)), messages);
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void shouldRejectUnknownTypeAndStatusOrdinals() {
+        // Given - byte 2 é o tipo e byte 3 o status do primeiro evento
+        byte[] unknownType = HexFormat.of().parseHex(FULFILLED_FRAME);
+        unknownType[2] = 0x7F;
+        byte[] unknownStatus = HexFormat.of().parseHex(FULFILLED_FRAME);
+        unknownStatus[3] = (byte) 0x80;
+
+        // When & Then
+        IllegalArgumentException type = assertThrows(IllegalArgumentException.class,
+                () -> DeliveryEventCodec.decode(ByteBuffer.wrap(unknownType)));
+        IllegalArgumentException status = assertThrows(IllegalArgumentException.class,
+                () -> DeliveryEventCodec.decode(ByteBuffer.wrap(unknownStatus)));
+        assertTrue(type.getMessage().endsWith(": 127"));
+        assertTrue(status.getMessage().endsWith(": 128"));
+    }
+
+    @Test
+    void shouldReadConsecutiveFramesFromPooledBuffer() {
+        // Given
+        ByteBufferPool pool = new ByteBufferPool(4096, 4);
+        ByteBuffer buffer = pool.acquire();
+        UUID courierId = UUID.randomUUID();
+        List<DeliveryEventMessage> first = List.of(
+                new DeliveryEventMessage(DeliveryEventType.PICKED_UP, UUID.randomUUID(), courierId,
+                        DeliveryStatus.IN_TRANSIT, Instant.ofEpochMilli(10), null),
+                new DeliveryEventMessage(DeliveryEventType.PLACED, UUID.randomUUID(), null,
+                        DeliveryStatus.WAITING_FOR_COURIER, Instant.ofEpochMilli(20), Instant.ofEpochMilli(30)));
+        List<DeliveryEventMessage> second = List.of(
+                new DeliveryEventMessage(DeliveryEventType.LATE, UUID.randomUUID(), null,
+                        null, Instant.ofEpochMilli(40), Instant.ofEpochMilli(35)));
+        DeliveryEventCodec.encode(first, buffer);
+        DeliveryEventCodec.encode(second, buffer);
+        buffer.flip();
+
+        // When
+        DeliveryEventFlyweight event = new DeliveryEventFlyweight().wrap(buffer);
+        event.next();
+        UUID firstCourier = event.courierId();
+        List<DeliveryEventMessage> decodedFirst = DeliveryEventCodec.decode(buffer);
+        List<DeliveryEventMessage> decodedSecond = DeliveryEventCodec.decode(buffer);
+        pool.release(buffer);
+
+        // Then
+        assertEquals(courierId, firstCourier);
+        assertEquals(first, decodedFirst);
+        assertEquals(second, decodedSecond);
+        assertEquals(1, pool.pooled());
+    }
+}
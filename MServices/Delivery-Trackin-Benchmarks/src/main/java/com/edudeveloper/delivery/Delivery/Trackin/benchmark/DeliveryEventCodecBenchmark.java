@@ -0,0 +1,105 @@
+package com.edudeveloper.delivery.Delivery.Trackin.benchmark;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire.ByteBufferPool;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire.DeliveryEventCodec;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire.DeliveryEventFlyweight;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire.DeliveryEventMessage;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire.DeliveryEventType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Lotes de eventos de entrega em JSON (Jackson, configurado como no Spring Boot) vs. o formato binário:
+// codificar, decodificar para records e ler os campos no lugar com o flyweight
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DeliveryEventCodecBenchmark {
+
+    private static final TypeReference<List<DeliveryEventMessage>> MESSAGES = new TypeReference<>() {
+    };
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    private ObjectMapper objectMapper;
+    private ByteBufferPool pool;
+    private DeliveryEventFlyweight flyweight;
+    private List<DeliveryEventMessage> messages;
+    private byte[] json;
+    private ByteBuffer frame;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        pool = new ByteBufferPool(DeliveryEventCodec.frameSize(batchSize), 4);
+        flyweight = new DeliveryEventFlyweight();
+        messages = new ArrayList<>(batchSize);
+        Instant now = Instant.now();
+        for (int i = 0; i < batchSize; i++) {
+            messages.add(i % 2 == 0
+                    ? new DeliveryEventMessage(DeliveryEventType.PICKED_UP, UUID.randomUUID(), UUID.randomUUID(),
+                            DeliveryStatus.IN_TRANSIT, now.plusMillis(i), null)
+                    : new DeliveryEventMessage(DeliveryEventType.PLACED, UUID.randomUUID(), null,
+                            DeliveryStatus.WAITING_FOR_COURIER, now.plusMillis(i), now.plusSeconds(3600)));
+        }
+        json = objectMapper.writeValueAsBytes(messages);
+        frame = ByteBuffer.allocateDirect(DeliveryEventCodec.frameSize(batchSize));
+        DeliveryEventCodec.encode(messages, frame);
+        frame.flip();
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws Exception {
+        return objectMapper.writeValueAsBytes(messages);
+    }
+
+    @Benchmark
+    public int binaryEncode() {
+        ByteBuffer buffer = pool.acquire();
+        try {
+            DeliveryEventCodec.encode(messages, buffer);
+            return buffer.position();
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    @Benchmark
+    public List<DeliveryEventMessage> jsonDecode() throws Exception {
+        return objectMapper.readValue(json, MESSAGES);
+    }
+
+    @Benchmark
+    public List<DeliveryEventMessage> binaryDecode() {
+        return DeliveryEventCodec.decode(frame.duplicate());
+    }
+
+    // Caso típico do consumidor: olha tipo, entrega e horário sem materializar o evento
+    @Benchmark
+    public void binaryReadInPlace(Blackhole blackhole) {
+        DeliveryEventFlyweight event = flyweight.wrap(frame);
+        while (event.next()) {
+            blackhole.consume(event.type());
+            blackhole.consume(event.deliveryIdMostSigBits() ^ event.deliveryIdLeastSigBits());
+            blackhole.consume(event.occurredAtMillis());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.edudeveloper.delivery.Delivery.Trackin.benchmark;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Mede as operações de itens do agregado Delivery para rascunhos de 1 a 10k itens
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DeliveryItemsBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int itemCount;
+
+    private Delivery delivery;
+    private UUID[] itemIds;
+    private int cursor;
+    private int quantity;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        delivery = Delivery.draft();
+        itemIds = new UUID[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            itemIds[i] = delivery.addItem("Produto " + i, 1);
+        }
+        cursor = 0;
+        quantity = 1;
+    }
+
+    // Monta um rascunho completo, item a item
+    @Benchmark
+    public Delivery buildDraftWithItems() {
+        Delivery draft = Delivery.draft();
+        for (int i = 0; i < itemCount; i++) {
+            draft.addItem("Produto", 1);
+        }
+        return draft;
+    }
+
+    @Benchmark
+    public Integer changeItemQuantity() {
+        delivery.changeItemQuantity(nextItemId(), ++quantity);
+        return delivery.getTotalItems();
+    }
+
+    // Remove um item e adiciona outro no lugar para manter o tamanho do rascunho estável
+    @Benchmark
+    public void removeItem(Blackhole blackhole) {
+        int slot = nextSlot();
+        delivery.removeItem(itemIds[slot]);
+        itemIds[slot] = delivery.addItem("Produto", 1);
+        blackhole.consume(delivery.getTotalItems());
+    }
+
+    private UUID nextItemId() {
+        return itemIds[nextSlot()];
+    }
+
+    private int nextSlot() {
+        int slot = cursor;
+        cursor = (cursor + 1) % itemCount;
+        return slot;
+    }
+}
@@ -0,0 +1,74 @@
+package com.edudeveloper.delivery.Delivery.Trackin.benchmark;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Mede a criação do rascunho, a edição dos detalhes e a cadeia place -> pickUp -> markAsDelivery
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DeliveryLifecycleBenchmark {
+
+    private Delivery.PreparationDetails details;
+    private UUID courierId;
+    private Delivery draft;
+
+    @Setup
+    public void setUp() {
+        ContactPoint sender = ContactPoint.builder()
+                .name("João Silva")
+                .phone("11999999999")
+                .zipCode("01234-567")
+                .street("Rua A")
+                .number("123")
+                .build();
+        ContactPoint recipient = ContactPoint.builder()
+                .name("Maria Santos")
+                .phone("11888888888")
+                .zipCode("04567-890")
+                .street("Rua B")
+                .number("456")
+                .build();
+
+        details = Delivery.PreparationDetails.builder()
+                .sender(sender)
+                .recipient(recipient)
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build();
+        courierId = UUID.randomUUID();
+        draft = Delivery.draft();
+    }
+
+    @Benchmark
+    public Delivery draft() {
+        return Delivery.draft();
+    }
+
+    @Benchmark
+    public Delivery editPreparationDetails() {
+        draft.editPreparationDetails(details);
+        return draft;
+    }
+
+    @Benchmark
+    public Delivery fullLifecycle() {
+        Delivery delivery = Delivery.draft();
+        delivery.addItem("Produto", 1);
+        delivery.editPreparationDetails(details);
+        delivery.place();
+        delivery.pickUp(courierId);
+        delivery.markAsDelivery();
+        return delivery;
+    }
+}
@@ -0,0 +1,74 @@
+package com.edudeveloper.delivery.Delivery.Trackin.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Comparação sintética de executores: uma rajada de tarefas que passam a maior parte do tempo paradas
+// em parkNanos (ioMillis, no lugar da espera pelo banco), com um pouco de CPU em volta, em virtual threads
+// vs. um pool fixo do tamanho do pool padrão do Tomcat (200 threads).
+// Não passa pelo Tomcat, Spring MVC, Jackson, JDBC nem pelo pool de conexões: mede só o custo de
+// agendar tarefas bloqueantes em cada executor, não a latência nem a vazão da API.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestExecutorBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"200", "1000", "5000"})
+    private int concurrentRequests;
+
+    @Param({"10"})
+    private int ioMillis;
+
+    @Param({"virtual", "platform"})
+    private String executor;
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp() {
+        executorService = "virtual".equals(executor)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.close();
+    }
+
+    // Tempo até a rajada inteira ser atendida
+    @Benchmark
+    public long burst() throws Exception {
+        List<Future<Long>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            long seed = i;
+            responses.add(executorService.submit(() -> handle(seed)));
+        }
+        long checksum = 0;
+        for (Future<Long> response : responses) {
+            checksum += response.get();
+        }
+        return checksum;
+    }
+
+    private long handle(long seed) {
+        long hash = seed;
+        for (int i = 0; i < 1_000; i++) {
+            hash = hash * 31 + i;
+        }
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(ioMillis));
+        return hash;
+    }
+}
@@ -0,0 +1,90 @@
+package com.edudeveloper.delivery.Delivery.Trackin.benchmark;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.sharding.ShardedDeliveryStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Vazão de transições (place -> pickUp -> markAsDelivery) com o número de shards variando
+// em relação aos núcleos da máquina. Cada invocação recebe um store novo com DELIVERIES rascunhos prontos.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShardedDeliveryStoreBenchmark {
+
+    private static final int DELIVERIES = 10_000;
+    private static final int TRANSITIONS = 3 * DELIVERIES;
+
+    @Param({"1", "cores/2", "cores", "2*cores"})
+    private String shards;
+
+    private Delivery.PreparationDetails details;
+    private UUID courierId;
+    private ShardedDeliveryStore store;
+    private UUID[] ids;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        details = Delivery.PreparationDetails.builder()
+                .sender(ContactPoint.builder().name("João Silva").zipCode("01234-567").build())
+                .recipient(ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build())
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build();
+        courierId = UUID.randomUUID();
+        ids = new UUID[DELIVERIES];
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        store = new ShardedDeliveryStore(shardCount());
+        CompletableFuture<?>[] registered = new CompletableFuture<?>[DELIVERIES];
+        for (int i = 0; i < DELIVERIES; i++) {
+            Delivery delivery = Delivery.draft();
+            delivery.addItem("Produto", 1);
+            delivery.editPreparationDetails(details);
+            ids[i] = delivery.getId();
+            registered[i] = store.register(delivery);
+        }
+        CompletableFuture.allOf(registered).join();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        store.close();
+    }
+
+    // As três transições de cada entrega ficam em cadeia; entregas diferentes avançam em paralelo
+    @Benchmark
+    @OperationsPerInvocation(TRANSITIONS)
+    public void transitions() {
+        CompletableFuture<?>[] completed = new CompletableFuture<?>[DELIVERIES];
+        for (int i = 0; i < DELIVERIES; i++) {
+            UUID id = ids[i];
+            completed[i] = store.place(id)
+                    .thenCompose(placed -> store.pickUp(id, courierId))
+                    .thenCompose(pickedUp -> store.complete(id));
+        }
+        CompletableFuture.allOf(completed).join();
+    }
+
+    private int shardCount() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        return switch (shards) {
+            case "cores/2" -> Math.max(1, cores / 2);
+            case "cores" -> cores;
+            case "2*cores" -> 2 * cores;
+            default -> Integer.parseInt(shards);
+        };
+    }
+}
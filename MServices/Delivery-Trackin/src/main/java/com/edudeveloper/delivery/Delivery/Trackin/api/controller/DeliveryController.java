@@ -0,0 +1,109 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.api.model.*;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryCheckpointService;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryPreparationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+// Ciclo de vida da entrega. As requisições rodam em virtual threads (spring.threads.virtual.enabled),
+// então a espera pelo banco não prende uma thread de plataforma do pool do Tomcat.
+@RestController
+@RequestMapping("/api/v1/deliveries")
+@RequiredArgsConstructor
+public class DeliveryController {
+
+    private final DeliveryPreparationService deliveryPreparationService;
+    private final DeliveryCheckpointService deliveryCheckpointService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public DeliveryOutput draft(@RequestBody @Valid DeliveryInput input) {
+        Delivery delivery = deliveryPreparationService.draft(
+                toContactPoint(input.getSender()),
+                toContactPoint(input.getRecipient()),
+                toNewItems(input.getItems()));
+        return DeliveryOutput.of(delivery);
+    }
+
+    @PutMapping("/{deliveryId}")
+    public DeliveryOutput edit(@PathVariable UUID deliveryId, @RequestBody @Valid DeliveryInput input) {
+        Delivery delivery = deliveryPreparationService.edit(deliveryId,
+                toContactPoint(input.getSender()),
+                toContactPoint(input.getRecipient()),
+                toNewItems(input.getItems()));
+        return DeliveryOutput.of(delivery);
+    }
+
+    @GetMapping("/{deliveryId}")
+    public DeliveryOutput findById(@PathVariable UUID deliveryId) {
+        return DeliveryOutput.of(deliveryPreparationService.findById(deliveryId));
+    }
+
+    @PostMapping("/{deliveryId}/items")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ItemOutput addItem(@PathVariable UUID deliveryId, @RequestBody @Valid ItemInput input) {
+        UUID itemId = deliveryPreparationService.addItem(deliveryId, input.getName(), input.getQuantity());
+        return new ItemOutput(itemId, input.getName(), input.getQuantity());
+    }
+
+    @PutMapping("/{deliveryId}/items/{itemId}/quantity")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void changeItemQuantity(@PathVariable UUID deliveryId, @PathVariable UUID itemId,
+                                   @RequestBody @Valid ItemQuantityInput input) {
+        deliveryPreparationService.changeItemQuantity(deliveryId, itemId, input.getQuantity());
+    }
+
+    @DeleteMapping("/{deliveryId}/items/{itemId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void removeItem(@PathVariable UUID deliveryId, @PathVariable UUID itemId) {
+        deliveryPreparationService.removeItem(deliveryId, itemId);
+    }
+
+    @PostMapping("/{deliveryId}/placement")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void place(@PathVariable UUID deliveryId) {
+        deliveryCheckpointService.place(deliveryId);
+    }
+
+    @PostMapping("/{deliveryId}/pickups")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void pickUp(@PathVariable UUID deliveryId, @RequestBody @Valid CourierIdInput input) {
+        deliveryCheckpointService.pickUp(deliveryId, input.getCourierId());
+    }
+
+    @PostMapping("/{deliveryId}/completion")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void complete(@PathVariable UUID deliveryId) {
+        deliveryCheckpointService.complete(deliveryId);
+    }
+
+    static ContactPoint toContactPoint(ContactPointInput input) {
+        return ContactPoint.builder()
+                .zipCode(input.getZipCode())
+                .street(input.getStreet())
+                .number(input.getNumber())
+                .complement(input.getComplement())
+                .name(input.getName())
+                .phone(input.getPhone())
+                .latitude(input.getLatitude())
+                .longitude(input.getLongitude())
+                .build();
+    }
+
+    static List<Delivery.NewItem> toNewItems(List<ItemInput> items) {
+        if (items == null) {
+            return null;
+        }
+        return items.stream()
+                .map(item -> new Delivery.NewItem(item.getName(), item.getQuantity()))
+                .toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryExportService;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.FulfilledDeliveryRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+// Exportação de entregas concluídas para o financeiro, escrita direto no corpo da resposta à medida
+// que as páginas do keyset são lidas. O formato segue o Accept: text/csv ou application/x-ndjson.
+@RestController
+@RequestMapping("/api/v1/deliveries/exports/fulfilled")
+@RequiredArgsConstructor
+public class DeliveryExportController {
+
+    private static final String CSV_HEADER = "id,courierId,fulfilledAt,distanceFee,courierPayout,totalCost\n";
+
+    private final DeliveryExportService deliveryExportService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        deliveryExportService.ensureAvailable();
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            deliveryExportService.exportFulfilled(from, to, page -> {
+                for (FulfilledDeliveryRow row : page) {
+                    writer.append(row.id().toString()).append(',')
+                            .append(row.courierId() == null ? "" : row.courierId().toString()).append(',')
+                            .append(row.fulfilledAt().toString()).append(',')
+                            .append(row.distanceFee().toPlainString()).append(',')
+                            .append(row.courierPayout().toPlainString()).append(',')
+                            .append(row.totalCost().toPlainString()).append('\n');
+                }
+                writer.flush();
+            });
+            writer.flush();
+        };
+        return attachment("fulfilled-deliveries.csv", body);
+    }
+
+    @GetMapping(produces = DeliveryImportController.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportNdjson(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        deliveryExportService.ensureAvailable();
+        StreamingResponseBody body = out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            long exported = deliveryExportService.exportFulfilled(from, to, page -> {
+                for (FulfilledDeliveryRow row : page) {
+                    generator.writeObject(row);
+                }
+                generator.flush();
+            });
+            if (exported > 0) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        };
+        return attachment("fulfilled-deliveries.ndjson", body);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(String fileName, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+}
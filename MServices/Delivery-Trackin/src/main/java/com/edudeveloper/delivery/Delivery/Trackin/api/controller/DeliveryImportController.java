@@ -0,0 +1,114 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.api.model.DeliveryImportOutput;
+import com.edudeveloper.delivery.Delivery.Trackin.api.model.DeliveryInput;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryImportService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Importação em massa de rascunhos. O corpo é lido em streaming, um registro por vez - um array JSON
+// (application/json) ou um objeto por linha (application/x-ndjson) - sem carregar a carga inteira.
+@RestController
+@RequestMapping("/api/v1/deliveries/imports")
+@RequiredArgsConstructor
+public class DeliveryImportController {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final DeliveryImportService deliveryImportService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @PostMapping(consumes = "application/json")
+    public DeliveryImportOutput importJson(InputStream body) throws IOException {
+        DeliveryImportService.DeliveryImport deliveryImport = deliveryImportService.start();
+        int index = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                deliveryImport.reject(index, "O corpo deve ser um array JSON");
+                return DeliveryImportOutput.of(deliveryImport.finish());
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    deliveryImport.reject(index, "JSON inválido: o array não foi fechado");
+                    break;
+                }
+                if (token == JsonToken.START_OBJECT) {
+                    // Apenas o registro atual vira árvore; um registro inválido não interrompe a leitura
+                    importRecord(deliveryImport, index, objectMapper.readTree(parser));
+                } else {
+                    // Elemento que não é objeto: pula o valor inteiro (arrays aninhados inclusive) e segue
+                    deliveryImport.reject(index, "Registro inválido: esperado um objeto JSON, encontrado " + token);
+                    parser.skipChildren();
+                }
+                index++;
+            }
+        } catch (JsonProcessingException e) {
+            // JSON malformado: não há como ressincronizar, os registros anteriores já foram importados
+            deliveryImport.reject(index, "JSON inválido: " + e.getOriginalMessage());
+        }
+        return DeliveryImportOutput.of(deliveryImport.finish());
+    }
+
+    @PostMapping(consumes = APPLICATION_NDJSON)
+    public DeliveryImportOutput importNdjson(InputStream body) throws IOException {
+        DeliveryImportService.DeliveryImport deliveryImport = deliveryImportService.start();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            int index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    importRecord(deliveryImport, index, objectMapper.readTree(line));
+                } catch (JsonProcessingException e) {
+                    deliveryImport.reject(index, "JSON inválido: " + e.getOriginalMessage());
+                }
+                index++;
+            }
+        }
+        return DeliveryImportOutput.of(deliveryImport.finish());
+    }
+
+    private void importRecord(DeliveryImportService.DeliveryImport deliveryImport, int index, JsonNode node) {
+        DeliveryInput input;
+        try {
+            input = objectMapper.treeToValue(node, DeliveryInput.class);
+        } catch (JsonProcessingException e) {
+            deliveryImport.reject(index, "Registro inválido: " + e.getOriginalMessage());
+            return;
+        }
+        Set<ConstraintViolation<DeliveryInput>> violations = validator.validate(input);
+        if (!violations.isEmpty()) {
+            deliveryImport.reject(index, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+        deliveryImport.add(index,
+                DeliveryController.toContactPoint(input.getSender()),
+                DeliveryController.toContactPoint(input.getRecipient()),
+                input.getItems() == null ? List.of() : DeliveryController.toNewItems(input.getItems()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.api.model.DeliveryTrackingOutput;
+import com.edudeveloper.delivery.Delivery.Trackin.api.model.DeliveryTrackingSliceOutput;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryTrackingQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+// Consultas de rastreamento pelo read model (delivery_tracking): status, entregador e datas,
+// sem carregar o agregado nem os itens. Os detalhes completos continuam em GET /api/v1/deliveries/{id}.
+@RestController
+@RequiredArgsConstructor
+public class DeliveryTrackingController {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final DeliveryTrackingQueryService deliveryTrackingQueryService;
+
+    @GetMapping("/api/v1/deliveries/{deliveryId}/tracking")
+    public DeliveryTrackingOutput findById(@PathVariable UUID deliveryId) {
+        return DeliveryTrackingOutput.of(deliveryTrackingQueryService.findById(deliveryId));
+    }
+
+    @GetMapping("/api/v1/couriers/{courierId}/tracking")
+    public DeliveryTrackingSliceOutput findByCourier(@PathVariable UUID courierId,
+                                                     @RequestParam(required = false) DeliveryStatus status,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "50") int size) {
+        return DeliveryTrackingSliceOutput.of(
+                deliveryTrackingQueryService.findByCourier(courierId, status, pageOf(page, size)));
+    }
+
+    @GetMapping("/api/v1/deliveries/tracking")
+    public DeliveryTrackingSliceOutput findByStatus(@RequestParam DeliveryStatus status,
+                                                    @RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "50") int size) {
+        return DeliveryTrackingSliceOutput.of(deliveryTrackingQueryService.findByStatus(status, pageOf(page, size)));
+    }
+
+    // Ordem fixa por id, coberta pelos índices do read model
+    private static Pageable pageOf(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE), Sort.by("id"));
+    }
+}
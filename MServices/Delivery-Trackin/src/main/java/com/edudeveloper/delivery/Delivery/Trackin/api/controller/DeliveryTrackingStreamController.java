@@ -0,0 +1,85 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryTrackingQueryService;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTracking;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream.TrackingStreamHub;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream.TrackingStreamProperties;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream.TrackingSubscription;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream.TrackingUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Server-Sent Events com as mudanças de status. A requisição fica em modo assíncrono:
+// nenhuma thread fica presa à conexão enquanto não há nada para enviar.
+@RestController
+@RequiredArgsConstructor
+public class DeliveryTrackingStreamController {
+
+    private final TrackingStreamHub trackingStreamHub;
+    private final TrackingStreamProperties properties;
+    private final DeliveryTrackingQueryService deliveryTrackingQueryService;
+
+    // O primeiro evento é o status atual; o stream termina quando a entrega é concluída.
+    // Assina antes de ler: uma transição publicada entre a leitura e a assinatura não se perde,
+    // e a assinatura descarta o status lido se ele for mais antigo que o já enfileirado.
+    @GetMapping(path = "/api/v1/deliveries/{deliveryId}/tracking/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDelivery(@PathVariable UUID deliveryId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        TrackingSubscription subscription = trackingStreamHub.subscribeToDelivery(deliveryId, sink(emitter, true));
+        bind(emitter, subscription);
+        DeliveryTracking current;
+        try {
+            current = deliveryTrackingQueryService.findById(deliveryId);
+        } catch (RuntimeException e) {
+            subscription.close();
+            throw e;
+        }
+        trackingStreamHub.send(subscription, new TrackingUpdate(current.getId(), current.getStatus(),
+                current.getCourierId(), lastChangeOf(current)));
+        return emitter;
+    }
+
+    @GetMapping(path = "/api/v1/couriers/{courierId}/tracking/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCourier(@PathVariable UUID courierId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        bind(emitter, trackingStreamHub.subscribeToCourier(courierId, sink(emitter, false)));
+        return emitter;
+    }
+
+    private static TrackingSubscription.Sink sink(SseEmitter emitter, boolean completeOnDelivery) {
+        return update -> {
+            try {
+                emitter.send(SseEmitter.event().name("status").data(update, MediaType.APPLICATION_JSON));
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+                throw e;
+            }
+            if (completeOnDelivery && update.status() == DeliveryStatus.DELIVERY) {
+                emitter.complete();
+            }
+        };
+    }
+
+    private static void bind(SseEmitter emitter, TrackingSubscription subscription) {
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+    }
+
+    private static OffsetDateTime lastChangeOf(DeliveryTracking tracking) {
+        return Stream.of(tracking.getFulfilledAt(), tracking.getAssignedAt(), tracking.getPlacedAt())
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.exceptionhandler;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DeliveryNotFoundException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.util.NoSuchElementException;
+
+// Traduz as exceções do domínio para respostas application/problem+json (RFC 9457)
+@RestControllerAdvice
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler({DeliveryNotFoundException.class, NoSuchElementException.class})
+    public ProblemDetail handleNotFound(RuntimeException e) {
+        return problem(HttpStatus.NOT_FOUND, "Recurso não encontrado", e);
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ProblemDetail handleDomain(DomainException e) {
+        return problem(HttpStatus.UNPROCESSABLE_ENTITY, "Operação não permitida", e);
+    }
+
+    // Outra requisição alterou a entrega entre a leitura e a escrita (@Version)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ProblemDetail handleConcurrentUpdate(ObjectOptimisticLockingFailureException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "A entrega foi alterada por outra requisição. Tente novamente.");
+        problem.setTitle("Conflito de atualização");
+        return problem;
+    }
+
+    private static ProblemDetail problem(HttpStatus status, String title, RuntimeException e) {
+        ProblemDetail problem = ProblemDetail.forStatus(status);
+        problem.setTitle(title);
+        problem.setDetail(e.getMessage());
+        return problem;
+    }
+}
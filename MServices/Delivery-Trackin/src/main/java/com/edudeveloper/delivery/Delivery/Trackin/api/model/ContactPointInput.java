@@ -0,0 +1,22 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class ContactPointInput {
+    @NotBlank
+    private String zipCode;
+    @NotBlank
+    private String street;
+    @NotBlank
+    private String number;
+    private String complement;
+    @NotBlank
+    private String name;
+    @NotBlank
+    private String phone;
+
+    private Double latitude;
+    private Double longitude;
+}
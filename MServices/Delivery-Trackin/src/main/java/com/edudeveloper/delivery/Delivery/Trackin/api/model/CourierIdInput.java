@@ -0,0 +1,12 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class CourierIdInput {
+    @NotNull
+    private UUID courierId;
+}
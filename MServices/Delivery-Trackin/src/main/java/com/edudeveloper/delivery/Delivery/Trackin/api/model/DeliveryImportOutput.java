@@ -0,0 +1,13 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryImportService;
+
+import java.util.List;
+
+// index: posição do registro no corpo (0 = primeiro elemento do array / primeira linha do NDJSON)
+public record DeliveryImportOutput(int imported, int failed, List<DeliveryImportService.RecordError> errors) {
+
+    public static DeliveryImportOutput of(DeliveryImportService.DeliveryImport deliveryImport) {
+        return new DeliveryImportOutput(deliveryImport.getImported(), deliveryImport.getFailed(), deliveryImport.getErrors());
+    }
+}
@@ -0,0 +1,21 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class DeliveryInput {
+    @Valid
+    @NotNull
+    private ContactPointInput sender;
+    @Valid
+    @NotNull
+    private ContactPointInput recipient;
+
+    // Opcional - quando informado, substitui os itens do rascunho
+    @Valid
+    private List<ItemInput> items;
+}
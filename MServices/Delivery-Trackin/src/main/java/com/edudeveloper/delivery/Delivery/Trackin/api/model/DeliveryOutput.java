@@ -0,0 +1,65 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Os itens precisam estar carregados: o agregado vem da transação já encerrada do serviço
+public record DeliveryOutput(
+        UUID id,
+        UUID courierId,
+        DeliveryStatus status,
+        OffsetDateTime placedAt,
+        OffsetDateTime assignedAt,
+        OffsetDateTime expectedDeliveryAt,
+        OffsetDateTime fulfilledAt,
+        BigDecimal distanceFee,
+        BigDecimal courierPayout,
+        BigDecimal totalCost,
+        Integer totalItems,
+        ContactPoint sender,
+        ContactPoint recipient,
+        List<ItemOutput> items) {
+
+    public static DeliveryOutput of(Delivery delivery) {
+        return new DeliveryOutput(
+                delivery.getId(),
+                delivery.getCourierId(),
+                delivery.getStatus(),
+                delivery.getPlacedAt(),
+                delivery.getAssignedAt(),
+                delivery.getExpectedDeliveryAt(),
+                delivery.getFulfilledAt(),
+                delivery.getDistanceFee(),
+                delivery.getCourierPayout(),
+                delivery.getTotalCost(),
+                delivery.getTotalItems(),
+                delivery.getSender(),
+                delivery.getRecipient(),
+                delivery.getItems().stream().map(ItemOutput::of).toList());
+    }
+
+    public static DeliveryOutput of(DeliverySnapshot snapshot) {
+        return new DeliveryOutput(
+                snapshot.id(),
+                snapshot.courierId(),
+                snapshot.status(),
+                snapshot.placedAt(),
+                snapshot.assignedAt(),
+                snapshot.expectedDeliveryAt(),
+                snapshot.fulfilledAt(),
+                snapshot.distanceFee(),
+                snapshot.courierPayout(),
+                snapshot.totalCost(),
+                snapshot.totalItems(),
+                snapshot.sender(),
+                snapshot.recipient(),
+                snapshot.items().stream().map(ItemOutput::of).toList());
+    }
+}
@@ -0,0 +1,23 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTracking;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record DeliveryTrackingOutput(
+        UUID id,
+        DeliveryStatus status,
+        UUID courierId,
+        OffsetDateTime placedAt,
+        OffsetDateTime assignedAt,
+        OffsetDateTime expectedDeliveryAt,
+        OffsetDateTime fulfilledAt) {
+
+    public static DeliveryTrackingOutput of(DeliveryTracking tracking) {
+        return new DeliveryTrackingOutput(tracking.getId(), tracking.getStatus(), tracking.getCourierId(),
+                tracking.getPlacedAt(), tracking.getAssignedAt(), tracking.getExpectedDeliveryAt(),
+                tracking.getFulfilledAt());
+    }
+}
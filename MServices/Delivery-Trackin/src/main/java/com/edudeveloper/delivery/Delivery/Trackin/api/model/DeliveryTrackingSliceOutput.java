@@ -0,0 +1,15 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTracking;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+// Página sem total: hasNext vem da linha a mais lida pelo Slice, sem COUNT
+public record DeliveryTrackingSliceOutput(List<DeliveryTrackingOutput> content, int page, int size, boolean hasNext) {
+
+    public static DeliveryTrackingSliceOutput of(Slice<DeliveryTracking> slice) {
+        return new DeliveryTrackingSliceOutput(slice.map(DeliveryTrackingOutput::of).getContent(),
+                slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,17 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Item;
+
+import java.util.UUID;
+
+public record ItemOutput(UUID id, String name, Integer quantity) {
+
+    public static ItemOutput of(Item item) {
+        return new ItemOutput(item.getId(), item.getName(), item.getQuantity());
+    }
+
+    public static ItemOutput of(DeliverySnapshot.ItemState item) {
+        return new ItemOutput(item.id(), item.name(), item.quantity());
+    }
+}
@@ -0,0 +1,12 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.model;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ItemQuantityInput {
+    @NotNull
+    @Min(1)
+    private Integer quantity;
+}
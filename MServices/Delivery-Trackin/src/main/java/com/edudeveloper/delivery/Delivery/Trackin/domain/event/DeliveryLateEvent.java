@@ -0,0 +1,18 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// A entrega passou do prazo previsto sem ser concluída
+@Getter
+@AllArgsConstructor
+@ToString
+public class DeliveryLateEvent {
+    private OffsetDateTime occurredAt;
+    private UUID deliveryId;
+    private OffsetDateTime expectedDeliveryAt;
+}
@@ -0,0 +1,17 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class DeliveryPlacedEvent {
+    private OffsetDateTime occurredAt;
+    private UUID deliveryId;
+    private OffsetDateTime expectedDeliveryAt;
+}
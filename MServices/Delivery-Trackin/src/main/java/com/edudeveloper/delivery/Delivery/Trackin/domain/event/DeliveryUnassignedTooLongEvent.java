@@ -0,0 +1,18 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// A entrega está aguardando entregador há mais tempo que o permitido
+@Getter
+@AllArgsConstructor
+@ToString
+public class DeliveryUnassignedTooLongEvent {
+    private OffsetDateTime occurredAt;
+    private UUID deliveryId;
+    private OffsetDateTime placedAt;
+}
@@ -1,12 +1,12 @@
 package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
+import jakarta.persistence.Embeddable;
+import lombok.*;
 
 // Value Object - Sem modificações
+@Embeddable
 @EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 @Getter
@@ -17,4 +17,12 @@ public class ContactPoint {// Constructor
     private String complement;
     private String name;
     private String phone;
+
+    // Coordenadas opcionais (graus decimais WGS84), usadas para o despacho por proximidade
+    private Double latitude;
+    private Double longitude;
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
 }
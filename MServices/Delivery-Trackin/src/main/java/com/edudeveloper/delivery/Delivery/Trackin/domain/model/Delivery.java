@@ -1,28 +1,47 @@
 package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
 
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryFulfilledEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPickUpEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPlacedEvent;
 import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.InvalidStatusTransitionException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DeliveryObserver;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.AbstractAggregateRoot;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
-@NoArgsConstructor(access = AccessLevel.PACKAGE)
+@Entity
+// Chave do keyset da exportação de entregas concluídas: (fulfilled_at, id)
+@Table(indexes = @Index(name = "idx_delivery_fulfilled_at_id", columnList = "fulfilled_at, id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Setter(AccessLevel.PRIVATE)
 @Getter
-public class Delivery {
+public class Delivery extends AbstractAggregateRoot<Delivery> {
 
+    // Id atribuído pelo domínio (UUIDv7), sem sequence no banco
+    @Id
     @EqualsAndHashCode.Include
     private UUID id;
 
+    // Controle de concorrência otimista - também indica ao Spring Data se a entidade é nova
+    @Version
+    private Long version;
+
     private UUID courierId;
 
     // ENUM Delivery STATUS
+    @Enumerated(EnumType.STRING)
     private DeliveryStatus status;
 
     private OffsetDateTime placedAt;
@@ -37,52 +56,105 @@ public class Delivery {
     private Integer totalItems;
 
     // import ContactPoint
+    @Embedded
     private ContactPoint sender;
+    @Embedded
     private ContactPoint recipient;
 
-    // Import Item
-    private List<Item> items = new ArrayList<>();
+    // Import Item - indexado por id, mantendo a ordem de inserção (ids UUIDv7 crescentes).
+    // delivery_id vai no INSERT do item e nunca muda (updatable = false), sem UPDATE depois dos inserts
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "delivery_id", nullable = false, updatable = false)
+    @MapKey(name = "id")
+    @OrderBy("id")
+    @BatchSize(size = 50)
+    private Map<UUID, Item> items = new LinkedHashMap<>();
+
+    // Visão imutável de items, recriada apenas depois de uma mutação
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<Item> itemsView;
+
+    // Mudanças ainda não gravadas no log de eventos; criada apenas na primeira mutação
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<DeliveryChange> changes;
 
     // Static Factory - Iniciando com um "rascunho" vazio
     public static Delivery draft(){
         Delivery delivery = new Delivery();
-        delivery.setId(UUID.randomUUID());
+        delivery.setId(DomainContext.nextId());
         delivery.setStatus(DeliveryStatus.DRAFT);
         delivery.setTotalItems(0);
         delivery.setTotalCost(BigDecimal.ZERO);
         delivery.setCourierPayout(BigDecimal.ZERO);
         delivery.setDistanceFee(BigDecimal.ZERO);
+        delivery.recordChange(new DeliveryChange.Drafted(delivery.getId(), DomainContext.now()));
 
         return delivery;
     }
 
+    // Reconstrói a entrega aplicando as mudanças do log sobre o snapshot (ou do início, se não houver).
+    // Não valida nem registra eventos: as mudanças já foram aceitas quando aconteceram.
+    public static Delivery replay(DeliverySnapshot snapshot, List<DeliveryChange> history)
+    {
+        Delivery delivery = new Delivery();
+        long version = 0;
+        if(snapshot != null)
+        {
+            delivery.restore(snapshot);
+            version = snapshot.version();
+        }
+        for (DeliveryChange change : history)
+        {
+            delivery.apply(change);
+        }
+        delivery.setVersion(version + history.size());
+        return delivery;
+    }
+
     // Apenas o Delivery pode modificar a lista de Items
     public UUID addItem(String name, int quantity)
     {
         Item item = Item.brandNew(name, quantity);
-        items.add(item);
-        calculateTotalItems();
+        items.put(item.getId(), item);
+        itemsView = null;
+        adjustTotalItems(quantity);
+        recordChange(new DeliveryChange.ItemAdded(item.getId(), name, quantity));
         return item.getId();
     }
 
     public void removeItem(UUID itemId)
     {
-        items.removeIf(item -> item.getId().equals(itemId));
-        calculateTotalItems();
+        Item removed = items.remove(itemId);
+        if(removed != null)
+        {
+            itemsView = null;
+            adjustTotalItems(-removed.getQuantity());
+            recordChange(new DeliveryChange.ItemRemoved(itemId));
+        }
     }
 
     public void changeItemQuantity(UUID itemId, int quantity)
     {
         verifyIfCanBeEdited();
-        Item item = getItems().stream().filter(i -> i.getId().equals(itemId)).findFirst().orElseThrow();
+        Item item = items.get(itemId);
+        if(item == null)
+        {
+            throw new NoSuchElementException("Item não encontrado: " + itemId);
+        }
+        int previousQuantity = item.getQuantity();
         item.setQuantity(quantity);
-        calculateTotalItems();
+        adjustTotalItems(quantity - previousQuantity);
+        recordChange(new DeliveryChange.ItemQuantityChanged(itemId, quantity));
     }
 
     public void removeItems()
     {
         items.clear();
-        calculateTotalItems();
+        itemsView = null;
+        setTotalItems(0);
+        recordChange(new DeliveryChange.ItemsCleared());
     }
 
     //Métodos que representam itensões
@@ -90,45 +162,250 @@ public class Delivery {
     {
         verifyIfCanBePlaced();
         this.changeStatusTo(DeliveryStatus.WAITING_FOR_COURIER);
-        this.setPlacedAt(OffsetDateTime.now());
+        this.setPlacedAt(DomainContext.now());
+        recordChange(new DeliveryChange.Placed(this.getPlacedAt()));
+        super.registerEvent(new DeliveryPlacedEvent(this.getPlacedAt(), this.getId(), this.getExpectedDeliveryAt()));
     }
 
     public void pickUp(UUID courierId)
     {
-        this.setCourierId(courierId);
         this.changeStatusTo(DeliveryStatus.IN_TRANSIT);
-        this.setAssignedAt(OffsetDateTime.now());
+        this.setCourierId(courierId);
+        this.setAssignedAt(DomainContext.now());
+        recordChange(new DeliveryChange.PickedUp(courierId, this.getAssignedAt()));
+        observeStage(DeliveryObserver.Stage.WAITING_FOR_COURIER, this.getPlacedAt(), this.getAssignedAt());
+        super.registerEvent(new DeliveryPickUpEvent(this.getAssignedAt(), this.getId(), courierId));
     }
 
     public void markAsDelivery()
     {
         this.changeStatusTo(DeliveryStatus.DELIVERY);
-        this.setFulfilledAt(OffsetDateTime.now());
+        this.setFulfilledAt(DomainContext.now());
+        recordChange(new DeliveryChange.Fulfilled(this.getFulfilledAt()));
+        observeStage(DeliveryObserver.Stage.IN_TRANSIT, this.getAssignedAt(), this.getFulfilledAt());
+        super.registerEvent(new DeliveryFulfilledEvent(this.getFulfilledAt(), this.getId(), this.getCourierId()));
     }
 
     //
     public void editPreparationDetails(PreparationDetails details)
     {
         verifyIfCanBeEdited();
+        applyPreparationDetails(details);
+    }
+
+    // Aplica um lote de alterações no rascunho de uma só vez: remoções, alterações de quantidade,
+    // novos itens e, opcionalmente, os detalhes de preparação. Tudo é validado antes da primeira
+    // mutação, então um lote rejeitado deixa a entrega inalterada.
+    public List<UUID> applyChanges(DraftChanges changes)
+    {
+        verifyIfCanBeEdited();
+        verifyIfCanBeApplied(changes);
+
+        int delta = 0;
+        for (UUID itemId : changes.getItemsToRemove())
+        {
+            Item removed = items.remove(itemId);
+            if(removed != null)
+            {
+                delta -= removed.getQuantity();
+                recordChange(new DeliveryChange.ItemRemoved(itemId));
+            }
+        }
+        for (Map.Entry<UUID, Integer> change : changes.getQuantityChanges().entrySet())
+        {
+            Item item = items.get(change.getKey());
+            delta += change.getValue() - item.getQuantity();
+            item.setQuantity(change.getValue());
+            recordChange(new DeliveryChange.ItemQuantityChanged(item.getId(), change.getValue()));
+        }
+        List<UUID> addedItemIds = new ArrayList<>(changes.getItemsToAdd().size());
+        for (NewItem newItem : changes.getItemsToAdd())
+        {
+            Item item = Item.brandNew(newItem.getName(), newItem.getQuantity());
+            items.put(item.getId(), item);
+            addedItemIds.add(item.getId());
+            delta += newItem.getQuantity();
+            recordChange(new DeliveryChange.ItemAdded(item.getId(), newItem.getName(), newItem.getQuantity()));
+        }
+        itemsView = null;
+        adjustTotalItems(delta);
+
+        if(changes.getPreparationDetails() != null)
+        {
+            applyPreparationDetails(changes.getPreparationDetails());
+        }
+        return addedItemIds;
+    }
+
+    private void applyPreparationDetails(PreparationDetails details)
+    {
         setSender(details.getSender());
         setRecipient(details.getRecipient());
         setDistanceFee(details.getDistanceFee());
         setCourierPayout(details.getCourierPayout());
         //
-        setExpectedDeliveryAt(OffsetDateTime.now().plus(details.getExpectedDeliveryTime()));
+        setExpectedDeliveryAt(DomainContext.now().plus(details.getExpectedDeliveryTime()));
         setTotalCost(this.getDistanceFee().add(this.getCourierPayout()));
+        recordChange(new DeliveryChange.PreparationDetailsEdited(getSender(), getRecipient(),
+                getDistanceFee(), getCourierPayout(), getExpectedDeliveryAt()));
+    }
+
+    // Entrega as mudanças pendentes ao armazenamento por eventos e avança a versão até a última delas
+    public List<DeliveryChange> pullChanges()
+    {
+        if(changes == null || changes.isEmpty())
+        {
+            return List.of();
+        }
+        List<DeliveryChange> pulled = List.copyOf(changes);
+        changes.clear();
+        setVersion((getVersion() == null ? 0 : getVersion()) + pulled.size());
+        return pulled;
+    }
+
+    // No modo JPA a tabela já guarda o estado: as mudanças registradas são descartadas sem avançar a versão,
+    // que fica a cargo do @Version
+    public void discardChanges()
+    {
+        changes = null;
+    }
+
+    // Falso enquanto a coleção lazy de itens não foi lida; o snapshot precisa dos itens
+    public boolean itemsLoaded()
+    {
+        return Hibernate.isInitialized(items);
+    }
+
+    public DeliverySnapshot snapshot()
+    {
+        List<DeliverySnapshot.ItemState> itemStates = new ArrayList<>(items.size());
+        for (Item item : items.values())
+        {
+            itemStates.add(new DeliverySnapshot.ItemState(item.getId(), item.getName(), item.getQuantity()));
+        }
+        return new DeliverySnapshot(getId(), getVersion() == null ? 0 : getVersion(), getCourierId(), getStatus(),
+                getPlacedAt(), getAssignedAt(), getExpectedDeliveryAt(), getFulfilledAt(),
+                getDistanceFee(), getCourierPayout(), getTotalCost(), getTotalItems(),
+                getSender(), getRecipient(), itemStates);
+    }
+
+    // Eventos de domínio pendentes. Públicos para o armazenamento por eventos, que os publica
+    // por conta própria; no modo JPA o Spring Data os publica no save.
+    @Override
+    @DomainEvents
+    public Collection<Object> domainEvents()
+    {
+        return super.domainEvents();
+    }
+
+    @Override
+    @AfterDomainEventPublication
+    public void clearDomainEvents()
+    {
+        super.clearDomainEvents();
     }
 
     // Gett Customer
     public List<Item> getItems()
     {
-        return Collections.unmodifiableList(this.items);
+        if(itemsView == null)
+        {
+            itemsView = Collections.unmodifiableList(new ArrayList<>(this.items.values()));
+        }
+        return itemsView;
+    }
+
+    private void recordChange(DeliveryChange change)
+    {
+        if(changes == null)
+        {
+            changes = new ArrayList<>();
+        }
+        changes.add(change);
+    }
+
+    private void restore(DeliverySnapshot snapshot)
+    {
+        setId(snapshot.id());
+        setCourierId(snapshot.courierId());
+        setStatus(snapshot.status());
+        setPlacedAt(snapshot.placedAt());
+        setAssignedAt(snapshot.assignedAt());
+        setExpectedDeliveryAt(snapshot.expectedDeliveryAt());
+        setFulfilledAt(snapshot.fulfilledAt());
+        setDistanceFee(snapshot.distanceFee());
+        setCourierPayout(snapshot.courierPayout());
+        setTotalCost(snapshot.totalCost());
+        setTotalItems(snapshot.totalItems());
+        setSender(snapshot.sender());
+        setRecipient(snapshot.recipient());
+        for (DeliverySnapshot.ItemState itemState : snapshot.items())
+        {
+            items.put(itemState.id(), Item.restore(itemState.id(), itemState.name(), itemState.quantity()));
+        }
+    }
+
+    private void apply(DeliveryChange change)
+    {
+        switch (change)
+        {
+            case DeliveryChange.Drafted drafted -> {
+                setId(drafted.deliveryId());
+                setStatus(DeliveryStatus.DRAFT);
+                setTotalItems(0);
+                setTotalCost(BigDecimal.ZERO);
+                setCourierPayout(BigDecimal.ZERO);
+                setDistanceFee(BigDecimal.ZERO);
+            }
+            case DeliveryChange.ItemAdded added -> {
+                items.put(added.itemId(), Item.restore(added.itemId(), added.name(), added.quantity()));
+                adjustTotalItems(added.quantity());
+            }
+            case DeliveryChange.ItemRemoved removed -> {
+                Item item = items.remove(removed.itemId());
+                if(item != null)
+                {
+                    adjustTotalItems(-item.getQuantity());
+                }
+            }
+            case DeliveryChange.ItemQuantityChanged changed -> {
+                Item item = items.get(changed.itemId());
+                adjustTotalItems(changed.quantity() - item.getQuantity());
+                item.setQuantity(changed.quantity());
+            }
+            case DeliveryChange.ItemsCleared cleared -> {
+                items.clear();
+                setTotalItems(0);
+            }
+            case DeliveryChange.PreparationDetailsEdited edited -> {
+                setSender(edited.sender());
+                setRecipient(edited.recipient());
+                setDistanceFee(edited.distanceFee());
+                setCourierPayout(edited.courierPayout());
+                setExpectedDeliveryAt(edited.expectedDeliveryAt());
+                setTotalCost(edited.distanceFee().add(edited.courierPayout()));
+            }
+            case DeliveryChange.Placed placed -> {
+                setStatus(DeliveryStatus.WAITING_FOR_COURIER);
+                setPlacedAt(placed.placedAt());
+            }
+            case DeliveryChange.PickedUp pickedUp -> {
+                setStatus(DeliveryStatus.IN_TRANSIT);
+                setCourierId(pickedUp.courierId());
+                setAssignedAt(pickedUp.assignedAt());
+            }
+            case DeliveryChange.Fulfilled fulfilled -> {
+                setStatus(DeliveryStatus.DELIVERY);
+                setFulfilledAt(fulfilled.fulfilledAt());
+            }
+        }
+        itemsView = null;
     }
 
-    private void calculateTotalItems()
+    // Atualiza o total pela diferença, sem percorrer os itens a cada mutação
+    private void adjustTotalItems(int delta)
     {
-        int totalItems = getItems().stream().mapToInt(Item::getQuantity).sum();
-        setTotalItems(totalItems);
+        setTotalItems(getTotalItems() + delta);
     }
 
     // Verifica se o estado de uma delivery pode ser alterada para Placed
@@ -136,10 +413,14 @@ public class Delivery {
     {
         if(!isFilled())
         {
+            DomainContext.observer().rejected(getStatus(), DeliveryStatus.WAITING_FOR_COURIER,
+                    DeliveryObserver.Rejection.INCOMPLETE_DETAILS);
             throw  new DomainException();
         }
         if(!getStatus().equals(DeliveryStatus.DRAFT))
         {
+            DomainContext.observer().rejected(getStatus(), DeliveryStatus.WAITING_FOR_COURIER,
+                    DeliveryObserver.Rejection.INVALID_TRANSITION);
             throw new DomainException();
         }
     }
@@ -152,6 +433,37 @@ public class Delivery {
         }
     }
 
+    private void verifyIfCanBeApplied(DraftChanges changes)
+    {
+        Set<UUID> removedItemIds = new HashSet<>(changes.getItemsToRemove());
+        for (Map.Entry<UUID, Integer> change : changes.getQuantityChanges().entrySet())
+        {
+            UUID itemId = change.getKey();
+            if(!items.containsKey(itemId) || removedItemIds.contains(itemId))
+            {
+                throw new NoSuchElementException("Item não encontrado: " + itemId);
+            }
+            if(change.getValue() == null)
+            {
+                throw new DomainException("Quantidade obrigatória para o item " + itemId);
+            }
+        }
+        for (NewItem newItem : changes.getItemsToAdd())
+        {
+            if(newItem == null || newItem.getName() == null)
+            {
+                throw new DomainException("Novo item sem nome");
+            }
+        }
+        PreparationDetails details = changes.getPreparationDetails();
+        if(details != null)
+        {
+            Objects.requireNonNull(details.getDistanceFee());
+            Objects.requireNonNull(details.getCourierPayout());
+            Objects.requireNonNull(details.getExpectedDeliveryTime());
+        }
+    }
+
     private boolean isFilled()
     {
         return this.getId() != null
@@ -161,12 +473,26 @@ public class Delivery {
 
     private void changeStatusTo(DeliveryStatus newStatus)
     {
-        if(newStatus != null && this.getStatus().canNotCahngeTo(newStatus))
+        DeliveryStatus previousStatus = this.getStatus();
+        if(newStatus != null && previousStatus.canNotCahngeTo(newStatus))
         {
-            throw new DomainException("Não é possível alterar o status da entrega de " 
-            + this.getStatus() + " para " + newStatus + " ! ");
+            DomainContext.observer().rejected(previousStatus, newStatus, DeliveryObserver.Rejection.INVALID_TRANSITION);
+            throw InvalidStatusTransitionException.of(previousStatus, newStatus);
         }
         this.setStatus(newStatus);
+        DomainContext.observer().transitioned(previousStatus, newStatus);
+    }
+
+    // Duração da etapa em nanos sem alocar Duration/Instant
+    private static void observeStage(DeliveryObserver.Stage stage, OffsetDateTime start, OffsetDateTime end)
+    {
+        if(start == null || end == null)
+        {
+            return;
+        }
+        long nanos = (end.toEpochSecond() - start.toEpochSecond()) * 1_000_000_000L
+                + (end.getNano() - start.getNano());
+        DomainContext.observer().stageCompleted(stage, nanos);
     }
 
     // Inner Class
@@ -180,4 +506,29 @@ public class Delivery {
         private BigDecimal courierPayout;
         private Duration expectedDeliveryTime;
     }
+
+    @Getter
+    @Builder
+    public static class DraftChanges {
+        @Singular("itemToAdd")
+        private List<NewItem> itemsToAdd;
+        @Singular("removeItem")
+        private List<UUID> itemsToRemove;
+        @Singular("changeItemQuantity")
+        private Map<UUID, Integer> quantityChanges;
+        private PreparationDetails preparationDetails;
+
+        public static class DraftChangesBuilder {
+            public DraftChangesBuilder addItem(String name, int quantity) {
+                return itemToAdd(new NewItem(name, quantity));
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NewItem {
+        private String name;
+        private int quantity;
+    }
 }
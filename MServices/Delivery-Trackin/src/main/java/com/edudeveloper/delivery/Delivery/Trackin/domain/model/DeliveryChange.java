@@ -0,0 +1,41 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Mudança de estado do agregado Delivery, registrada por cada mutação.
+// No armazenamento por eventos é o que vai para o log append-only e o que reconstrói a entrega.
+public sealed interface DeliveryChange {
+
+    record Drafted(UUID deliveryId, OffsetDateTime occurredAt) implements DeliveryChange {
+    }
+
+    record ItemAdded(UUID itemId, String name, int quantity) implements DeliveryChange {
+    }
+
+    record ItemRemoved(UUID itemId) implements DeliveryChange {
+    }
+
+    record ItemQuantityChanged(UUID itemId, int quantity) implements DeliveryChange {
+    }
+
+    record ItemsCleared() implements DeliveryChange {
+    }
+
+    record PreparationDetailsEdited(ContactPoint sender,
+                                    ContactPoint recipient,
+                                    BigDecimal distanceFee,
+                                    BigDecimal courierPayout,
+                                    OffsetDateTime expectedDeliveryAt) implements DeliveryChange {
+    }
+
+    record Placed(OffsetDateTime placedAt) implements DeliveryChange {
+    }
+
+    record PickedUp(UUID courierId, OffsetDateTime assignedAt) implements DeliveryChange {
+    }
+
+    record Fulfilled(OffsetDateTime fulfilledAt) implements DeliveryChange {
+    }
+}
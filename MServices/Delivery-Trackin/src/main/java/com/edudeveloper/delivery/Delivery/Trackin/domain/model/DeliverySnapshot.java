@@ -0,0 +1,33 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Estado completo da entrega em uma versão do log de eventos; a reconstrução parte dele
+// e aplica apenas as mudanças posteriores
+public record DeliverySnapshot(
+        UUID id,
+        long version,
+        UUID courierId,
+        DeliveryStatus status,
+        OffsetDateTime placedAt,
+        OffsetDateTime assignedAt,
+        OffsetDateTime expectedDeliveryAt,
+        OffsetDateTime fulfilledAt,
+        BigDecimal distanceFee,
+        BigDecimal courierPayout,
+        BigDecimal totalCost,
+        Integer totalItems,
+        ContactPoint sender,
+        ContactPoint recipient,
+        List<ItemState> items) {
+
+    public DeliverySnapshot {
+        items = List.copyOf(items);
+    }
+
+    public record ItemState(UUID id, String name, int quantity) {
+    }
+}
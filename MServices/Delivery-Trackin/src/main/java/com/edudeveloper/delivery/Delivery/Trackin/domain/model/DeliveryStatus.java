@@ -1,27 +1,27 @@
 package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
 
-import java.util.Arrays;
-import java.util.List;
-
 public enum DeliveryStatus {
     DRAFT,
     WAITING_FOR_COURIER(DRAFT),
     IN_TRANSIT(WAITING_FOR_COURIER),
     DELIVERY(IN_TRANSIT);
 
-    private final List<DeliveryStatus> previousStatus;
+    // Bit i ligado = transição permitida a partir do status de ordinal i
+    private final int previousStatusMask;
 
     DeliveryStatus(DeliveryStatus... previousStatus) {
-        this.previousStatus = Arrays.asList(previousStatus);
+        int mask = 0;
+        for (DeliveryStatus status : previousStatus) {
+            mask |= 1 << status.ordinal();
+        }
+        this.previousStatusMask = mask;
     }
 
     public boolean canNotCahngeTo(DeliveryStatus newStatus) {
-        DeliveryStatus current = this;
-        return !newStatus.previousStatus.contains(current);
+        return (newStatus.previousStatusMask & (1 << this.ordinal())) == 0;
     }
 
     public boolean canChangeTo(DeliveryStatus newStatus) {
         return !canNotCahngeTo(newStatus);
     }
 }
-    
\ No newline at end of file
@@ -1,17 +1,28 @@
 package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
 
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import lombok.*;
 
 import java.util.UUID;
 
-@NoArgsConstructor(access = AccessLevel.PACKAGE)
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Setter(AccessLevel.PRIVATE)
 @Getter
 public class Item {
 
+    @Id
     @EqualsAndHashCode.Include
     private UUID id;
+
+    // Permite ao Hibernate identificar itens novos sem um SELECT pelo id atribuído
+    @Version
+    private Integer version;
+
     private String name;
 
     @Setter(AccessLevel.PACKAGE)
@@ -21,7 +32,18 @@ public class Item {
     static Item brandNew(String name, Integer quantity)
     {
         Item item = new Item();
-        item.setId(UUID.randomUUID());
+        item.setId(DomainContext.nextId());
+        item.setName(name);
+        item.setQuantity(quantity);
+
+        return item;
+    }
+
+    // Reconstrução a partir do log de eventos ou de um snapshot
+    static Item restore(UUID id, String name, Integer quantity)
+    {
+        Item item = new Item();
+        item.setId(id);
         item.setName(name);
         item.setQuantity(quantity);
 
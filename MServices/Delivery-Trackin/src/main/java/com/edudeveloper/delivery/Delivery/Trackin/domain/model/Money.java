@@ -0,0 +1,87 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Objects;
+
+// Value Object - valor monetário em ponto fixo (centavos em um long) e código da moeda.
+// A conversão de/para BigDecimal é exata: valores com mais casas decimais do que a moeda permite são rejeitados.
+// Tipo independente: Delivery, a API e as tabelas ainda guardam os valores como BigDecimal, sem conversão
+// para Money nessas fronteiras.
+@EqualsAndHashCode
+@Getter
+public final class Money implements Comparable<Money> {
+
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("BRL");
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, Objects.requireNonNull(currency));
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return ofMinor(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        BigDecimal scaled = amount.setScale(currency.getDefaultFractionDigits());
+        return ofMinor(scaled.unscaledValue().longValueExact(), currency);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    public static Money zero(Currency currency) {
+        return ofMinor(0, currency);
+    }
+
+    public Money plus(Money other) {
+        verifySameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        verifySameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money times(long multiplier) {
+        return new Money(Math.multiplyExact(minorUnits, multiplier), currency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        verifySameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + " " + toBigDecimal().toPlainString();
+    }
+
+    private void verifySameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Moedas diferentes: " + currency + " e " + other.currency);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception;
+
+import java.util.UUID;
+
+public class DeliveryNotFoundException extends DomainException {
+    public DeliveryNotFoundException(UUID deliveryId) {
+        super("Entrega não encontrada: " + deliveryId);
+    }
+}
@@ -11,4 +11,8 @@ public class DomainException extends RuntimeException{
     public DomainException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    protected DomainException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
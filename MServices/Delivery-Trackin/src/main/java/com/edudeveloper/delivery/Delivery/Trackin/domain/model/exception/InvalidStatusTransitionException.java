@@ -0,0 +1,37 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import lombok.Getter;
+
+// Exceção pré-alocada e sem stack trace para transições de status rejeitadas
+@Getter
+public final class InvalidStatusTransitionException extends DomainException {
+
+    private static final DeliveryStatus[] STATUSES = DeliveryStatus.values();
+    private static final InvalidStatusTransitionException[][] INSTANCES = createInstances();
+
+    private final DeliveryStatus from;
+    private final DeliveryStatus to;
+
+    private InvalidStatusTransitionException(DeliveryStatus from, DeliveryStatus to) {
+        super("Não é possível alterar o status da entrega de "
+                + from + " para " + to + " ! ", null, false, false);
+        this.from = from;
+        this.to = to;
+    }
+
+    public static InvalidStatusTransitionException of(DeliveryStatus from, DeliveryStatus to) {
+        return INSTANCES[from.ordinal()][to.ordinal()];
+    }
+
+    private static InvalidStatusTransitionException[][] createInstances() {
+        InvalidStatusTransitionException[][] instances =
+                new InvalidStatusTransitionException[STATUSES.length][STATUSES.length];
+        for (DeliveryStatus from : STATUSES) {
+            for (DeliveryStatus to : STATUSES) {
+                instances[from.ordinal()][to.ordinal()] = new InvalidStatusTransitionException(from, to);
+            }
+        }
+        return instances;
+    }
+}
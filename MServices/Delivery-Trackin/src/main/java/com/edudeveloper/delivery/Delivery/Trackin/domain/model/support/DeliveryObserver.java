@@ -0,0 +1,34 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model.support;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+
+// Observa o ciclo de vida do agregado Delivery (métricas, auditoria).
+// Chamado no caminho crítico das transições: implementações não devem alocar nem bloquear.
+public interface DeliveryObserver {
+
+    DeliveryObserver NO_OP = new DeliveryObserver() {
+    };
+
+    enum Rejection {
+        // Transição não permitida a partir do status atual
+        INVALID_TRANSITION,
+        // place() sem os detalhes de preparação preenchidos
+        INCOMPLETE_DETAILS
+    }
+
+    enum Stage {
+        // placedAt -> assignedAt
+        WAITING_FOR_COURIER,
+        // assignedAt -> fulfilledAt
+        IN_TRANSIT
+    }
+
+    default void transitioned(DeliveryStatus from, DeliveryStatus to) {
+    }
+
+    default void rejected(DeliveryStatus from, DeliveryStatus to, Rejection reason) {
+    }
+
+    default void stageCompleted(Stage stage, long durationNanos) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model.support;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+// Fonte de tempo, de IDs e observador usados pelo modelo de domínio.
+// Por padrão usa o relógio do sistema, UUIDv7 e nenhum observador; testes e a configuração da aplicação podem trocá-los.
+public final class DomainContext {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile IdGenerator idGenerator = new TimeOrderedIdGenerator();
+    private static volatile DeliveryObserver observer = DeliveryObserver.NO_OP;
+
+    private DomainContext() {
+    }
+
+    public static OffsetDateTime now() {
+        return OffsetDateTime.now(clock);
+    }
+
+    public static UUID nextId() {
+        return idGenerator.generate();
+    }
+
+    public static DeliveryObserver observer() {
+        return observer;
+    }
+
+    public static Clock clock() {
+        return clock;
+    }
+
+    public static void use(Clock clock) {
+        DomainContext.clock = Objects.requireNonNull(clock);
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        DomainContext.idGenerator = Objects.requireNonNull(idGenerator);
+    }
+
+    public static void use(DeliveryObserver observer) {
+        DomainContext.observer = Objects.requireNonNull(observer);
+    }
+
+    public static void reset() {
+        clock = Clock.systemDefaultZone();
+        idGenerator = new TimeOrderedIdGenerator();
+        observer = DeliveryObserver.NO_OP;
+    }
+}
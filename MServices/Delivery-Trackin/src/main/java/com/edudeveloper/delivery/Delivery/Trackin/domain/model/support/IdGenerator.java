@@ -0,0 +1,8 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model.support;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+    UUID generate();
+}
@@ -0,0 +1,47 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model.support;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// UUIDv7 (RFC 9562): 48 bits de epoch millis + contador por thread + bits aleatórios.
+// Usa ThreadLocalRandom em vez do SecureRandom sincronizado do UUID.randomUUID().
+// IDs gerados na mesma thread são estritamente crescentes, inclusive dentro do mesmo milissegundo.
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final long MAX_SEQUENCE = 0xFFF;
+
+    private final Clock clock;
+    private final ThreadLocal<long[]> lastTimestampAndSequence = ThreadLocal.withInitial(() -> new long[2]);
+
+    public TimeOrderedIdGenerator() {
+        this(Clock.systemUTC());
+    }
+
+    public TimeOrderedIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        long[] state = lastTimestampAndSequence.get();
+        long timestamp = clock.millis();
+        long sequence;
+        if (timestamp > state[0]) {
+            sequence = ThreadLocalRandom.current().nextLong(MAX_SEQUENCE / 2);
+        } else {
+            timestamp = state[0];
+            sequence = state[1] + 1;
+            if (sequence > MAX_SEQUENCE) {
+                timestamp++;
+                sequence = 0;
+            }
+        }
+        state[0] = timestamp;
+        state[1] = sequence;
+
+        long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
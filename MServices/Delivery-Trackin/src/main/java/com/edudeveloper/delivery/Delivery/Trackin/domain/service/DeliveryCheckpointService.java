@@ -0,0 +1,55 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DeliveryNotFoundException;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.cache.DeliveryCache;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryStore;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingProjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+// Transições de status da entrega: place -> pickUp -> markAsDelivery
+@Service
+@RequiredArgsConstructor
+public class DeliveryCheckpointService {
+
+    private final DeliveryStore deliveryStore;
+    private final DeliveryTrackingProjector deliveryTrackingProjector;
+    private final DeliveryCache deliveryCache;
+
+    @Transactional
+    public Delivery place(UUID deliveryId) {
+        Delivery delivery = findDelivery(deliveryId);
+        delivery.place();
+        return save(delivery);
+    }
+
+    @Transactional
+    public Delivery pickUp(UUID deliveryId, UUID courierId) {
+        Delivery delivery = findDelivery(deliveryId);
+        delivery.pickUp(courierId);
+        return save(delivery);
+    }
+
+    @Transactional
+    public Delivery complete(UUID deliveryId) {
+        Delivery delivery = findDelivery(deliveryId);
+        delivery.markAsDelivery();
+        return save(delivery);
+    }
+
+    private Delivery findDelivery(UUID deliveryId) {
+        return deliveryStore.findById(deliveryId)
+                .orElseThrow(() -> new DeliveryNotFoundException(deliveryId));
+    }
+
+    private Delivery save(Delivery delivery) {
+        Delivery saved = deliveryStore.save(delivery);
+        deliveryTrackingProjector.project(saved);
+        deliveryCache.writeThrough(saved);
+        return saved;
+    }
+}
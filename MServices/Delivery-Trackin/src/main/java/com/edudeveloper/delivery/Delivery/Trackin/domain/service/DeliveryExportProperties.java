@@ -0,0 +1,14 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.export")
+public class DeliveryExportProperties {
+
+    // Linhas por página do keyset; é o máximo mantido em memória durante a exportação
+    private int pageSize = 1_000;
+}
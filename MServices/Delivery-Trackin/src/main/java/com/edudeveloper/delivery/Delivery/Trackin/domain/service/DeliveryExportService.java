@@ -0,0 +1,77 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore.EventStoreProperties;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryRepository;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.FulfilledDeliveryRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Exportação de entregas concluídas em [from, to), página a página pelo keyset (fulfilledAt, id).
+// Cada página é lida em uma transação curta e entregue ao writer fora dela: um cliente lento
+// não segura conexão nem transação, e a memória fica limitada a uma página.
+// Lê a tabela delivery, que só guarda o estado atual no modo jpa; no modo event-sourced a exportação é recusada.
+@Service
+public class DeliveryExportService {
+
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryExportProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean available;
+
+    public DeliveryExportService(DeliveryRepository deliveryRepository, DeliveryExportProperties properties,
+                                 PlatformTransactionManager transactionManager, EventStoreProperties storageProperties) {
+        this.deliveryRepository = deliveryRepository;
+        this.properties = properties;
+        this.available = !"event-sourced".equals(storageProperties.getMode());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @FunctionalInterface
+    public interface PageWriter {
+        void write(List<FulfilledDeliveryRow> page) throws IOException;
+    }
+
+    // Chamado antes de começar a resposta, para o erro não chegar no meio de um stream já iniciado
+    public void ensureAvailable() {
+        if (!available) {
+            throw new DomainException("Exportação indisponível com delivery.storage.mode=event-sourced: "
+                    + "a tabela delivery não guarda o estado atual das entregas");
+        }
+    }
+
+    public long exportFulfilled(OffsetDateTime from, OffsetDateTime to, PageWriter writer) throws IOException {
+        ensureAvailable();
+        Limit limit = Limit.of(properties.getPageSize());
+        OffsetDateTime afterFulfilledAt = from;
+        UUID afterId = MIN_ID;
+        long exported = 0;
+        List<FulfilledDeliveryRow> page;
+        do {
+            OffsetDateTime cursorFulfilledAt = afterFulfilledAt;
+            UUID cursorId = afterId;
+            page = readOnlyTransaction.execute(status ->
+                    deliveryRepository.findFulfilledAfter(cursorFulfilledAt, cursorId, to, limit));
+            if (page.isEmpty()) {
+                break;
+            }
+            writer.write(page);
+            exported += page.size();
+
+            FulfilledDeliveryRow last = page.getLast();
+            afterFulfilledAt = last.fulfilledAt();
+            afterId = last.id();
+        } while (page.size() == properties.getPageSize());
+        return exported;
+    }
+}
@@ -0,0 +1,17 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.import")
+public class DeliveryImportProperties {
+
+    // Rascunhos gravados por transação; limita a memória ocupada pela importação
+    private int batchSize = 500;
+
+    // Erros devolvidos na resposta; os demais são apenas contados
+    private int maxReportedErrors = 1_000;
+}
@@ -0,0 +1,105 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryStore;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingProjector;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Importação em massa de rascunhos. Os registros chegam um a um (leitura em streaming) e são gravados
+// em lotes de batch-size, cada lote em sua própria transação, com o contexto de persistência limpo ao
+// final - a memória fica limitada ao lote atual, qualquer que seja o tamanho da importação.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryImportService {
+
+    private final DeliveryStore deliveryStore;
+    private final DeliveryTrackingProjector deliveryTrackingProjector;
+    private final DeliveryPricingService deliveryPricingService;
+    private final DeliveryImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    public DeliveryImport start() {
+        return new DeliveryImport();
+    }
+
+    public class DeliveryImport {
+
+        private final List<Delivery> batch = new ArrayList<>(properties.getBatchSize());
+        private final List<Integer> batchIndexes = new ArrayList<>(properties.getBatchSize());
+
+        @Getter
+        private int imported;
+        @Getter
+        private int failed;
+        @Getter
+        private final List<RecordError> errors = new ArrayList<>();
+
+        // Cria o rascunho com preço e prazo calculados pelos CEPs; erros de domínio ficam no registro
+        public void add(int index, ContactPoint sender, ContactPoint recipient, List<Delivery.NewItem> items) {
+            Delivery delivery = Delivery.draft();
+            try {
+                delivery.applyChanges(Delivery.DraftChanges.builder()
+                        .itemsToAdd(items)
+                        .preparationDetails(deliveryPricingService.prepare(sender, recipient))
+                        .build());
+            } catch (DomainException | IllegalArgumentException e) {
+                reject(index, e.getMessage());
+                return;
+            }
+            batch.add(delivery);
+            batchIndexes.add(index);
+            if (batch.size() == properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        public void reject(int index, String message) {
+            failed++;
+            if (errors.size() < properties.getMaxReportedErrors()) {
+                errors.add(new RecordError(index, message));
+            }
+        }
+
+        // Grava o lote pendente; deve ser chamado ao final da leitura
+        public DeliveryImport finish() {
+            flush();
+            return this;
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    deliveryStore.saveAll(batch);
+                    deliveryTrackingProjector.projectNew(batch);
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                imported += batch.size();
+            } catch (RuntimeException e) {
+                // O lote inteiro volta atrás; cada registro dele é reportado com a causa
+                log.warn("Falha ao gravar lote de {} rascunhos importados", batch.size(), e);
+                batchIndexes.forEach(index -> reject(index, "Falha ao gravar o lote: " + e.getMessage()));
+            }
+            batch.clear();
+            batchIndexes.clear();
+        }
+    }
+
+    public record RecordError(int index, String message) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DeliveryNotFoundException;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.cache.DeliveryCache;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryStore;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingProjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+// Criação e edição do rascunho: itens e detalhes de preparação (preço e prazo calculados pelos CEPs)
+@Service
+@RequiredArgsConstructor
+public class DeliveryPreparationService {
+
+    private final DeliveryStore deliveryStore;
+    private final DeliveryTrackingProjector deliveryTrackingProjector;
+    private final DeliveryCache deliveryCache;
+    private final DeliveryPricingService deliveryPricingService;
+
+    @Transactional
+    public Delivery draft(ContactPoint sender, ContactPoint recipient, List<Delivery.NewItem> items) {
+        Delivery delivery = Delivery.draft();
+        delivery.applyChanges(changes(sender, recipient, items).build());
+        return save(delivery);
+    }
+
+    // Quando items é nulo os itens atuais são mantidos; caso contrário são substituídos
+    @Transactional
+    public Delivery edit(UUID deliveryId, ContactPoint sender, ContactPoint recipient, List<Delivery.NewItem> items) {
+        Delivery delivery = findDeliveryWithItems(deliveryId);
+        Delivery.DraftChanges.DraftChangesBuilder changes = changes(sender, recipient, items);
+        if (items != null) {
+            delivery.getItems().forEach(item -> changes.removeItem(item.getId()));
+        }
+        delivery.applyChanges(changes.build());
+        return save(delivery);
+    }
+
+    @Transactional
+    public UUID addItem(UUID deliveryId, String name, int quantity) {
+        Delivery delivery = findDeliveryWithItems(deliveryId);
+        UUID itemId = delivery.applyChanges(Delivery.DraftChanges.builder()
+                .addItem(name, quantity)
+                .build()).getFirst();
+        save(delivery);
+        return itemId;
+    }
+
+    @Transactional
+    public void changeItemQuantity(UUID deliveryId, UUID itemId, int quantity) {
+        Delivery delivery = findDeliveryWithItems(deliveryId);
+        delivery.changeItemQuantity(itemId, quantity);
+        save(delivery);
+    }
+
+    @Transactional
+    public void removeItem(UUID deliveryId, UUID itemId) {
+        Delivery delivery = findDeliveryWithItems(deliveryId);
+        delivery.applyChanges(Delivery.DraftChanges.builder()
+                .removeItem(itemId)
+                .build());
+        save(delivery);
+    }
+
+    // Leitura do rastreamento: servida pelo cache, que confere só a versão quando a entrega já está nele
+    public DeliverySnapshot findById(UUID deliveryId) {
+        return deliveryCache.get(deliveryId)
+                .orElseThrow(() -> new DeliveryNotFoundException(deliveryId));
+    }
+
+    private Delivery.DraftChanges.DraftChangesBuilder changes(ContactPoint sender, ContactPoint recipient,
+                                                              List<Delivery.NewItem> items) {
+        Delivery.DraftChanges.DraftChangesBuilder changes = Delivery.DraftChanges.builder()
+                .preparationDetails(deliveryPricingService.prepare(sender, recipient));
+        if (items != null) {
+            changes.itemsToAdd(items);
+        }
+        return changes;
+    }
+
+    private Delivery findDeliveryWithItems(UUID deliveryId) {
+        return deliveryStore.findWithItemsById(deliveryId)
+                .orElseThrow(() -> new DeliveryNotFoundException(deliveryId));
+    }
+
+    private Delivery save(Delivery delivery) {
+        Delivery saved = deliveryStore.save(delivery);
+        deliveryTrackingProjector.project(saved);
+        deliveryCache.writeThrough(saved);
+        return saved;
+    }
+}
@@ -0,0 +1,22 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.pricing")
+public class DeliveryPricingProperties {
+
+    private BigDecimal baseFee = new BigDecimal("5.00");
+    private BigDecimal feePerKm = new BigDecimal("1.50");
+    private BigDecimal basePayout = new BigDecimal("3.00");
+    private BigDecimal payoutPerKm = new BigDecimal("1.00");
+
+    // Tempo de preparo somado ao deslocamento no prazo de entrega
+    private Duration handlingTime = Duration.ofMinutes(30);
+}
@@ -0,0 +1,35 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Calcula taxa de distância, repasse ao entregador e prazo de entrega a partir dos CEPs
+@Service
+@RequiredArgsConstructor
+public class DeliveryPricingService {
+
+    private final DistanceProvider distanceProvider;
+    private final DeliveryPricingProperties properties;
+
+    public Delivery.PreparationDetails prepare(ContactPoint sender, ContactPoint recipient) {
+        RouteEstimate route = distanceProvider.estimate(sender.getZipCode(), recipient.getZipCode());
+        BigDecimal distanceInKm = BigDecimal.valueOf(route.getDistanceInKm());
+
+        return Delivery.PreparationDetails.builder()
+                .sender(sender)
+                .recipient(recipient)
+                .distanceFee(price(properties.getBaseFee(), properties.getFeePerKm(), distanceInKm))
+                .courierPayout(price(properties.getBasePayout(), properties.getPayoutPerKm(), distanceInKm))
+                .expectedDeliveryTime(route.getTravelTime().plus(properties.getHandlingTime()))
+                .build();
+    }
+
+    private static BigDecimal price(BigDecimal base, BigDecimal perKm, BigDecimal distanceInKm) {
+        return base.add(perKm.multiply(distanceInKm)).setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
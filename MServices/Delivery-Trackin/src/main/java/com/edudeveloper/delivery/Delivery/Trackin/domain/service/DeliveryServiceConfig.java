@@ -0,0 +1,10 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({DeliveryPricingProperties.class, DeliveryImportProperties.class,
+        DeliveryExportProperties.class})
+public class DeliveryServiceConfig {
+}
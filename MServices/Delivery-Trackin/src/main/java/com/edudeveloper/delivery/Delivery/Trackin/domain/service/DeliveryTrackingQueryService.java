@@ -0,0 +1,38 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DeliveryNotFoundException;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTracking;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+// Consultas de rastreamento servidas pelo read model, sem carregar o agregado Delivery
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DeliveryTrackingQueryService {
+
+    private final DeliveryTrackingRepository deliveryTrackingRepository;
+
+    public DeliveryTracking findById(UUID deliveryId) {
+        return deliveryTrackingRepository.findById(deliveryId)
+                .orElseThrow(() -> new DeliveryNotFoundException(deliveryId));
+    }
+
+    public Slice<DeliveryTracking> findByCourier(UUID courierId, DeliveryStatus status, Pageable pageable) {
+        if (status == null) {
+            return deliveryTrackingRepository.findByCourierId(courierId, pageable);
+        }
+        return deliveryTrackingRepository.findByCourierIdAndStatus(courierId, status, pageable);
+    }
+
+    public Slice<DeliveryTracking> findByStatus(DeliveryStatus status, Pageable pageable) {
+        return deliveryTrackingRepository.findByStatus(status, pageable);
+    }
+}
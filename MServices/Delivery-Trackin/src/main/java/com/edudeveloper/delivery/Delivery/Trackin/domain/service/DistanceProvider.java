@@ -0,0 +1,7 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+// Fonte de distâncias entre CEPs (serviço de rotas, tabela local, ...)
+@FunctionalInterface
+public interface DistanceProvider {
+    RouteEstimate estimate(String originZipCode, String destinationZipCode);
+}
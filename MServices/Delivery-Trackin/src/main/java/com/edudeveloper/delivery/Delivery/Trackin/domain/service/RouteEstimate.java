@@ -0,0 +1,18 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+// Value Object - distância e tempo de deslocamento entre dois CEPs
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class RouteEstimate {
+    private double distanceInKm;
+    private Duration travelTime;
+}
@@ -0,0 +1,131 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.cache;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+// Cache em processo das leituras de rastreamento. Guarda snapshots imutáveis, nunca o agregado:
+// quem lê não consegue alterar o que outros leitores recebem, e as escritas continuam carregando
+// o agregado do banco, com o controle otimista do @Version.
+// Um acerto é servido da memória, sem ir ao banco. Escritas desta instância chegam pelo write-through;
+// as de outras instâncias só aparecem quando a entrada expira, então o active-ttl é o atraso máximo
+// de uma entrega em andamento. Entregas concluídas não mudam mais e ficam pelo terminal-ttl.
+public class DeliveryCache implements MeterBinder {
+
+    private final Cache<UUID, DeliverySnapshot> cache;
+    private final DeliveryStore deliveryStore;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DeliveryCache(DeliveryStore deliveryStore, PlatformTransactionManager transactionManager,
+                         DeliveryCacheProperties properties) {
+        this(deliveryStore, transactionManager, properties, Ticker.systemTicker());
+    }
+
+    DeliveryCache(DeliveryStore deliveryStore, PlatformTransactionManager transactionManager,
+                  DeliveryCacheProperties properties, Ticker ticker) {
+        this.deliveryStore = deliveryStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new StatusExpiry(properties.getActiveTtl(), properties.getTerminalTtl()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    // Na falta, carrega do banco em uma transação somente leitura; não guarda ids inexistentes
+    public Optional<DeliverySnapshot> get(UUID deliveryId) {
+        return Optional.ofNullable(cache.get(deliveryId, this::load));
+    }
+
+    // Write-through: o snapshot da versão gravada substitui o do cache só depois do commit,
+    // quando o @Version já foi incrementado. Deve ser chamado dentro da transação que grava o agregado.
+    // Se a escrita não leu os itens, não os carrega só para o cache: a entrada é removida
+    // e a próxima leitura busca a entrega completa.
+    public void writeThrough(Delivery delivery) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (delivery.itemsLoaded()) {
+                    put(delivery.snapshot());
+                } else {
+                    invalidate(delivery.getId());
+                }
+            }
+
+            // Rollback (ex.: conflito de versão com outra instância): a entrada pode estar desatualizada
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    invalidate(delivery.getId());
+                }
+            }
+        });
+    }
+
+    // Mantém a versão mais nova: um commit mais antigo que termina depois não sobrescreve o cache
+    void put(DeliverySnapshot snapshot) {
+        cache.asMap().merge(snapshot.id(), snapshot,
+                (cached, written) -> written.version() >= cached.version() ? written : cached);
+    }
+
+    public void invalidate(UUID deliveryId) {
+        cache.invalidate(deliveryId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // cache_gets_total{cache="delivery",result="hit|miss"}, cache_evictions_total, ...
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(cache, "delivery", Tags.empty()).bindTo(registry);
+    }
+
+    private DeliverySnapshot load(UUID deliveryId) {
+        return readOnlyTransaction.execute(status ->
+                deliveryStore.findWithItemsById(deliveryId).map(Delivery::snapshot).orElse(null));
+    }
+
+    private record StatusExpiry(Duration activeTtl, Duration terminalTtl) implements Expiry<UUID, DeliverySnapshot> {
+
+        @Override
+        public long expireAfterCreate(UUID id, DeliverySnapshot snapshot, long currentTime) {
+            return ttl(snapshot);
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID id, DeliverySnapshot snapshot, long currentTime, long currentDuration) {
+            return ttl(snapshot);
+        }
+
+        @Override
+        public long expireAfterRead(UUID id, DeliverySnapshot snapshot, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long ttl(DeliverySnapshot snapshot) {
+            return snapshot.status() == DeliveryStatus.DELIVERY ? terminalTtl.toNanos() : activeTtl.toNanos();
+        }
+    }
+}
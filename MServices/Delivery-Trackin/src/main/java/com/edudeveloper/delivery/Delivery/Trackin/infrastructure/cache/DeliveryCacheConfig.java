@@ -0,0 +1,19 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.cache;
+
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableConfigurationProperties(DeliveryCacheProperties.class)
+public class DeliveryCacheConfig {
+
+    @Bean
+    public DeliveryCache deliveryCache(DeliveryStore deliveryStore,
+                                       PlatformTransactionManager transactionManager,
+                                       DeliveryCacheProperties properties) {
+        return new DeliveryCache(deliveryStore, transactionManager, properties);
+    }
+}
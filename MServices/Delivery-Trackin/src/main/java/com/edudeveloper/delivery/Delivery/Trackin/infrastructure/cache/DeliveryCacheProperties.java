@@ -0,0 +1,21 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.cache")
+public class DeliveryCacheProperties {
+
+    private long maximumSize = 50_000;
+
+    // Atraso máximo para ver, nas entregas em andamento, escritas feitas por outras instâncias
+    private Duration activeTtl = Duration.ofSeconds(5);
+
+    // Entregas concluídas não mudam mais e raramente são consultadas de novo
+    private Duration terminalTtl = Duration.ofMinutes(1);
+}
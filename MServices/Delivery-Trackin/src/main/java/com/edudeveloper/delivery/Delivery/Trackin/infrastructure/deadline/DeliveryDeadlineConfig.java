@@ -0,0 +1,30 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.deadline;
+
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(DeliveryDeadlineProperties.class)
+@ConditionalOnProperty(prefix = "delivery.deadlines", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeliveryDeadlineConfig {
+
+    @Bean(destroyMethod = "close")
+    public DeliveryDeadlineScheduler deliveryDeadlineScheduler(DeliveryDeadlineProperties properties,
+                                                               ApplicationEventPublisher eventPublisher,
+                                                               TransactionTemplate transactionTemplate,
+                                                               DeliveryTrackingRepository deliveryTrackingRepository) {
+        return new DeliveryDeadlineScheduler(properties, eventPublisher, transactionTemplate, deliveryTrackingRepository);
+    }
+
+    @Bean
+    public DeliveryDeadlineListener deliveryDeadlineListener(DeliveryDeadlineScheduler deliveryDeadlineScheduler,
+                                                             DeliveryTrackingRepository deliveryTrackingRepository,
+                                                             DeliveryDeadlineProperties properties) {
+        return new DeliveryDeadlineListener(deliveryDeadlineScheduler, deliveryTrackingRepository, properties);
+    }
+}
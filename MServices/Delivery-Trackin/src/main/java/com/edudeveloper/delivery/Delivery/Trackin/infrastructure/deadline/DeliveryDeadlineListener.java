@@ -0,0 +1,72 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.deadline;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryFulfilledEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPickUpEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPlacedEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTracking;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+// Alimenta o agendador de prazos: recarrega as entregas em andamento do read model na subida
+// e acompanha as transições depois do commit
+@Slf4j
+@RequiredArgsConstructor
+public class DeliveryDeadlineListener {
+
+    private static final List<DeliveryStatus> ACTIVE = List.of(DeliveryStatus.WAITING_FOR_COURIER, DeliveryStatus.IN_TRANSIT);
+
+    private final DeliveryDeadlineScheduler scheduler;
+    private final DeliveryTrackingRepository deliveryTrackingRepository;
+    private final DeliveryDeadlineProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void hydrateAndStart() {
+        int loaded = hydrate();
+        log.info("{} prazo(s) de entrega carregado(s) do read model", loaded);
+        scheduler.start();
+    }
+
+    // Leitura única, paginada por keyset em (status, id), apenas das entregas ainda em andamento
+    public int hydrate() {
+        int loaded = 0;
+        UUID afterId = new UUID(0, 0);
+        List<DeliveryTracking> page;
+        do {
+            page = deliveryTrackingRepository.findByStatusInAndIdGreaterThanOrderById(
+                    ACTIVE, afterId, Limit.of(properties.getHydrationPageSize()));
+            for (DeliveryTracking tracking : page) {
+                scheduler.track(tracking.getId(), tracking.getStatus(), tracking.getPlacedAt(), tracking.getExpectedDeliveryAt());
+            }
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                afterId = page.getLast().getId();
+            }
+        } while (page.size() == properties.getHydrationPageSize());
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryPlacedEvent event) {
+        scheduler.track(event.getDeliveryId(), DeliveryStatus.WAITING_FOR_COURIER,
+                event.getOccurredAt(), event.getExpectedDeliveryAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryPickUpEvent event) {
+        scheduler.pickedUp(event.getDeliveryId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryFulfilledEvent event) {
+        scheduler.fulfilled(event.getDeliveryId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.deadline;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.deadlines")
+public class DeliveryDeadlineProperties {
+
+    private boolean enabled = true;
+
+    // Resolução dos prazos: um prazo dispara no máximo um tick depois de vencer
+    private Duration tick = Duration.ofSeconds(1);
+
+    // Com tick de 1s, 512 baldes e 4 níveis a wheel cobre ~8,5 min no nível 0, ~3 dias no 1 e anos nos demais
+    private int wheelSize = 512;
+    private int levels = 4;
+
+    // Tempo máximo aguardando entregador antes de DeliveryUnassignedTooLongEvent
+    private Duration maxUnassigned = Duration.ofMinutes(30);
+
+    // Linhas do read model lidas por página ao recarregar os prazos na subida
+    private int hydrationPageSize = 1000;
+}
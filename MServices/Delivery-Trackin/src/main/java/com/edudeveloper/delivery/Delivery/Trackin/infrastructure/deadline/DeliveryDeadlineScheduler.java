@@ -0,0 +1,182 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.deadline;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryLateEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryUnassignedTooLongEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.deadline.HierarchicalTimingWheel.Timeout;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Prazos das entregas em andamento numa timing wheel em memória, sem varrer a tabela periodicamente.
+// Os prazos entram e saem pelos eventos do agregado e são recarregados do read model na subida.
+// Cada entrega tem no máximo um prazo de cada tipo: aguardando entregador e previsão de entrega.
+// A wheel é local a cada nó e pode estar desatualizada (transição feita em outro nó), por isso cada prazo
+// vencido é reivindicado no read model pelo id antes de publicar: só sai se ainda vale e uma única vez.
+@Slf4j
+public class DeliveryDeadlineScheduler implements AutoCloseable {
+
+    enum Kind {
+        UNASSIGNED,
+        LATE
+    }
+
+    record Deadline(UUID deliveryId, Kind kind, OffsetDateTime reference) {
+    }
+
+    private static final List<DeliveryStatus> ACTIVE = List.of(DeliveryStatus.WAITING_FOR_COURIER, DeliveryStatus.IN_TRANSIT);
+
+    private final HierarchicalTimingWheel<Deadline> wheel;
+    private final Map<UUID, Timeout<Deadline>> unassigned = new HashMap<>();
+    private final Map<UUID, Timeout<Deadline>> late = new HashMap<>();
+    private final Duration maxUnassigned;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final DeliveryTrackingRepository deliveryTrackingRepository;
+    private final long tickMillis;
+    private ScheduledExecutorService ticker;
+
+    public DeliveryDeadlineScheduler(DeliveryDeadlineProperties properties,
+                                     ApplicationEventPublisher eventPublisher,
+                                     TransactionTemplate transactionTemplate,
+                                     DeliveryTrackingRepository deliveryTrackingRepository) {
+        this.wheel = new HierarchicalTimingWheel<>(properties.getTick().toMillis(), properties.getWheelSize(),
+                properties.getLevels(), DomainContext.clock().millis());
+        this.maxUnassigned = properties.getMaxUnassigned();
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.deliveryTrackingRepository = deliveryTrackingRepository;
+        this.tickMillis = properties.getTick().toMillis();
+    }
+
+    // Registra os prazos de uma entrega no status informado, substituindo os anteriores
+    public synchronized void track(UUID deliveryId, DeliveryStatus status,
+                                   OffsetDateTime placedAt, OffsetDateTime expectedDeliveryAt) {
+        cancel(unassigned, deliveryId);
+        cancel(late, deliveryId);
+        if (status != DeliveryStatus.WAITING_FOR_COURIER && status != DeliveryStatus.IN_TRANSIT) {
+            return;
+        }
+        if (status == DeliveryStatus.WAITING_FOR_COURIER && placedAt != null) {
+            OffsetDateTime deadline = placedAt.plus(maxUnassigned);
+            unassigned.put(deliveryId, wheel.schedule(deadline.toInstant().toEpochMilli(),
+                    new Deadline(deliveryId, Kind.UNASSIGNED, placedAt)));
+        }
+        if (expectedDeliveryAt != null) {
+            late.put(deliveryId, wheel.schedule(expectedDeliveryAt.toInstant().toEpochMilli(),
+                    new Deadline(deliveryId, Kind.LATE, expectedDeliveryAt)));
+        }
+    }
+
+    public synchronized void pickedUp(UUID deliveryId) {
+        cancel(unassigned, deliveryId);
+    }
+
+    public synchronized void fulfilled(UUID deliveryId) {
+        cancel(unassigned, deliveryId);
+        cancel(late, deliveryId);
+    }
+
+    // Avança a wheel até agora e publica os prazos vencidos que o read model confirma,
+    // numa transação para a reivindicação e o outbox irem juntos; retorna quantos foram publicados
+    public int advance() {
+        List<Deadline> expired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(DomainContext.clock().millis(), timeout -> {
+                Deadline deadline = timeout.value();
+                (deadline.kind() == Kind.UNASSIGNED ? unassigned : late).remove(deadline.deliveryId());
+                expired.add(deadline);
+            });
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        OffsetDateTime now = DomainContext.now();
+        try {
+            return transactionTemplate.execute(status -> {
+                int published = 0;
+                for (Deadline deadline : expired) {
+                    if (!claim(deadline, now)) {
+                        continue;
+                    }
+                    eventPublisher.publishEvent(switch (deadline.kind()) {
+                        case UNASSIGNED -> new DeliveryUnassignedTooLongEvent(now, deadline.deliveryId(), deadline.reference());
+                        case LATE -> new DeliveryLateEvent(now, deadline.deliveryId(), deadline.reference());
+                    });
+                    published++;
+                }
+                return published;
+            });
+        } catch (RuntimeException e) {
+            retry(expired);
+            throw e;
+        }
+    }
+
+    private boolean claim(Deadline deadline, OffsetDateTime now) {
+        return switch (deadline.kind()) {
+            case UNASSIGNED -> deliveryTrackingRepository.claimUnassignedNotice(deadline.deliveryId(),
+                    DeliveryStatus.WAITING_FOR_COURIER, now.minus(maxUnassigned), now) == 1;
+            case LATE -> deliveryTrackingRepository.claimLateNotice(deadline.deliveryId(), ACTIVE, now) == 1;
+        };
+    }
+
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("delivery-deadlines").factory());
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    void tick() {
+        try {
+            advance();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao publicar prazos vencidos", e);
+        }
+    }
+
+    public synchronized int pending() {
+        return wheel.size();
+    }
+
+    // Publicação falhou: os prazos voltam para o próximo tick, a menos que a entrega já tenha mudado
+    private synchronized void retry(List<Deadline> expired) {
+        long now = DomainContext.clock().millis();
+        for (Deadline deadline : expired) {
+            Map<UUID, Timeout<Deadline>> deadlines = deadline.kind() == Kind.UNASSIGNED ? unassigned : late;
+            if (!deadlines.containsKey(deadline.deliveryId())) {
+                deadlines.put(deadline.deliveryId(), wheel.schedule(now, deadline));
+            }
+        }
+    }
+
+    private void cancel(Map<UUID, Timeout<Deadline>> deadlines, UUID deliveryId) {
+        Timeout<Deadline> timeout = deadlines.remove(deliveryId);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.deadline;
+
+import java.util.function.Consumer;
+
+// Timing wheel hierárquica: agendar e cancelar são O(1) e avançar um tick custa só o balde da vez,
+// independente de quantos prazos estão pendentes.
+// O nível L tem wheelSize baldes de wheelSize^L ticks cada; prazos distantes ficam nos níveis altos e
+// descem (cascata) quando o tempo alcança o balde deles. Não é thread-safe: quem usa sincroniza.
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final Bucket<T>[][] levels;
+    private final long[] spans;
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Timing wheel inválida: tick, tamanho e níveis precisam ser positivos");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = new Bucket[levelCount][wheelSize];
+        this.spans = new long[levelCount];
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            spans[level] = span;
+            for (int slot = 0; slot < wheelSize; slot++) {
+                levels[level][slot] = new Bucket<>();
+            }
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // Agenda value para deadlineMillis; prazos já vencidos saem no próximo advanceTo
+    public Timeout<T> schedule(long deadlineMillis, T value) {
+        Timeout<T> timeout = new Timeout<>(value, deadlineMillis, Math.ceilDiv(deadlineMillis, tickMillis));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    // Avança tick a tick até nowMillis entregando os prazos vencidos, na ordem dos ticks
+    public void advanceTo(long nowMillis, Consumer<Timeout<T>> onExpired) {
+        long targetTick = nowMillis / tickMillis;
+        expire(levels[0][slotOf(currentTick, 0)], onExpired);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(levels[level][slotOf(currentTick, level)]);
+                }
+            }
+            expire(levels[0][slotOf(currentTick, 0)], onExpired);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = Math.max(timeout.deadlineTick - currentTick, 0);
+        int level = 0;
+        while (level < levels.length - 1 && delta >= spans[level + 1]) {
+            level++;
+        }
+        long tick = Math.max(timeout.deadlineTick, currentTick);
+        levels[level][slotOf(tick, level)].add(timeout);
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.head;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            bucket.remove(timeout);
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void expire(Bucket<T> bucket, Consumer<Timeout<T>> onExpired) {
+        Timeout<T> timeout = bucket.head;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            if (timeout.deadlineTick <= currentTick) {
+                bucket.remove(timeout);
+                size--;
+                onExpired.accept(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private int slotOf(long tick, int level) {
+        return (int) ((tick / spans[level]) % wheelSize);
+    }
+
+    public static final class Timeout<T> {
+
+        private final T value;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+
+        private Bucket<T> bucket;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadlineMillis, long deadlineTick) {
+            this.value = value;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public boolean isPending() {
+            return bucket != null;
+        }
+    }
+
+    // Lista duplamente encadeada intrusiva: remover um prazo não exige procurá-lo
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.previous = null;
+            timeout.next = head;
+            if (head != null) {
+                head.previous = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+    }
+}
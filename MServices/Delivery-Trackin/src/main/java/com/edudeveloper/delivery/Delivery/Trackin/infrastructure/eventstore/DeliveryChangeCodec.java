@@ -0,0 +1,63 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryChange;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// JSON das mudanças e snapshots. O tipo vai em coluna própria (nome simples do record),
+// mantendo o modelo de domínio sem anotações do Jackson.
+class DeliveryChangeCodec {
+
+    private static final Map<String, Class<? extends DeliveryChange>> TYPES = types();
+
+    private final ObjectMapper objectMapper;
+
+    DeliveryChangeCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    String typeOf(DeliveryChange change) {
+        return change.getClass().getSimpleName();
+    }
+
+    String encode(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar " + value, e);
+        }
+    }
+
+    DeliveryChange decode(String type, String payload) {
+        Class<? extends DeliveryChange> changeType = TYPES.get(type);
+        if (changeType == null) {
+            throw new IllegalStateException("Tipo de mudança desconhecido no log: " + type);
+        }
+        return read(payload, changeType);
+    }
+
+    DeliverySnapshot decodeSnapshot(String payload) {
+        return read(payload, DeliverySnapshot.class);
+    }
+
+    private <T> T read(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível ler " + type.getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Class<? extends DeliveryChange>> types() {
+        Map<String, Class<? extends DeliveryChange>> types = new HashMap<>();
+        for (Class<?> type : DeliveryChange.class.getPermittedSubclasses()) {
+            types.put(type.getSimpleName(), (Class<? extends DeliveryChange>) type);
+        }
+        return Map.copyOf(types);
+    }
+}
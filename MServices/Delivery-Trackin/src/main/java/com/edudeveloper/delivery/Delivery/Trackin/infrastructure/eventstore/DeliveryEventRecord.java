@@ -0,0 +1,62 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+// Linha do log append-only: uma mudança da entrega na posição sequence do seu stream.
+// A unicidade de (delivery_id, sequence) é o controle de concorrência entre gravações.
+@Entity
+@Table(name = "delivery_event", uniqueConstraints =
+        @UniqueConstraint(name = "uk_delivery_event_sequence", columnNames = {"delivery_id", "sequence"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
+public class DeliveryEventRecord implements Persistable<UUID> {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID id;
+
+    @Column(name = "delivery_id", nullable = false)
+    private UUID deliveryId;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Column(nullable = false, length = 64)
+    private String type;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean isNew;
+
+    static DeliveryEventRecord of(UUID deliveryId, long sequence, String type, String payload) {
+        DeliveryEventRecord record = new DeliveryEventRecord();
+        record.setId(DomainContext.nextId());
+        record.setDeliveryId(deliveryId);
+        record.setSequence(sequence);
+        record.setType(type);
+        record.setPayload(payload);
+        record.setNew(true);
+        return record;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,15 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DeliveryEventRecordRepository extends JpaRepository<DeliveryEventRecord, UUID> {
+
+    List<DeliveryEventRecord> findByDeliveryIdAndSequenceGreaterThanOrderBySequence(UUID deliveryId, long sequence);
+
+    List<DeliveryEventRecord> findByDeliveryIdOrderBySequence(UUID deliveryId);
+}
@@ -0,0 +1,39 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+// Último snapshot de cada entrega; substituído a cada N eventos
+@Entity
+@Table(name = "delivery_snapshot")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
+public class DeliverySnapshotRecord {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID deliveryId;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    static DeliverySnapshotRecord of(UUID deliveryId, long sequence, String payload) {
+        DeliverySnapshotRecord record = new DeliverySnapshotRecord();
+        record.setDeliveryId(deliveryId);
+        record.update(sequence, payload);
+        return record;
+    }
+
+    void update(long sequence, String payload) {
+        setSequence(sequence);
+        setPayload(payload);
+    }
+}
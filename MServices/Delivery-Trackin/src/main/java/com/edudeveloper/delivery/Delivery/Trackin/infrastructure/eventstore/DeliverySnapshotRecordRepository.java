@@ -0,0 +1,10 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface DeliverySnapshotRecordRepository extends JpaRepository<DeliverySnapshotRecord, UUID> {
+}
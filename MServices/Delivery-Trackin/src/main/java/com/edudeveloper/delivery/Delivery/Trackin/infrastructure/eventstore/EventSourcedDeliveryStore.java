@@ -0,0 +1,122 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryChange;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Armazenamento por eventos: cada gravação só acrescenta as mudanças pendentes ao log (delivery_event),
+// sem UPDATE na entrega nem reescrita dos itens. A leitura parte do último snapshot e reaplica o restante.
+public class EventSourcedDeliveryStore implements DeliveryStore {
+
+    private final DeliveryEventRecordRepository eventRepository;
+    private final DeliverySnapshotRecordRepository snapshotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeliveryChangeCodec codec;
+    private final int snapshotEvery;
+
+    public EventSourcedDeliveryStore(DeliveryEventRecordRepository eventRepository,
+                                     DeliverySnapshotRecordRepository snapshotRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ObjectMapper objectMapper,
+                                     EventStoreProperties properties) {
+        this.eventRepository = eventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.eventPublisher = eventPublisher;
+        this.codec = new DeliveryChangeCodec(objectMapper);
+        this.snapshotEvery = properties.getSnapshotEvery();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Delivery> findById(UUID deliveryId) {
+        Optional<DeliverySnapshotRecord> snapshotRecord = snapshotRepository.findById(deliveryId);
+        DeliverySnapshot snapshot = snapshotRecord
+                .map(record -> codec.decodeSnapshot(record.getPayload()))
+                .orElse(null);
+        List<DeliveryEventRecord> records = snapshot == null
+                ? eventRepository.findByDeliveryIdOrderBySequence(deliveryId)
+                : eventRepository.findByDeliveryIdAndSequenceGreaterThanOrderBySequence(deliveryId, snapshot.version());
+        if (snapshot == null && records.isEmpty()) {
+            return Optional.empty();
+        }
+        List<DeliveryChange> history = new ArrayList<>(records.size());
+        for (DeliveryEventRecord record : records) {
+            history.add(codec.decode(record.getType(), record.getPayload()));
+        }
+        return Optional.of(Delivery.replay(snapshot, history));
+    }
+
+    // O agregado reconstruído já tem os itens em memória
+    @Override
+    public Optional<Delivery> findWithItemsById(UUID deliveryId) {
+        return findById(deliveryId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Delivery save(Delivery delivery) {
+        append(List.of(delivery));
+        return delivery;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveAll(List<Delivery> deliveries) {
+        append(deliveries);
+    }
+
+    private void append(List<Delivery> deliveries) {
+        List<DeliveryEventRecord> records = new ArrayList<>();
+        List<DeliverySnapshotRecord> snapshots = new ArrayList<>();
+        for (Delivery delivery : deliveries) {
+            long previousVersion = delivery.getVersion() == null ? 0 : delivery.getVersion();
+            List<DeliveryChange> changes = delivery.pullChanges();
+            long sequence = previousVersion;
+            for (DeliveryChange change : changes) {
+                records.add(DeliveryEventRecord.of(delivery.getId(), ++sequence, codec.typeOf(change), codec.encode(change)));
+            }
+            if (sequence / snapshotEvery > previousVersion / snapshotEvery) {
+                snapshots.add(snapshotOf(delivery));
+            }
+        }
+        try {
+            eventRepository.saveAllAndFlush(records);
+        } catch (DataIntegrityViolationException e) {
+            // Outra transação já gravou essa posição do stream
+            throw new ObjectOptimisticLockingFailureException(Delivery.class, deliveries.getFirst().getId(), e);
+        }
+        snapshotRepository.saveAll(snapshots);
+        publishDomainEvents(deliveries);
+    }
+
+    private DeliverySnapshotRecord snapshotOf(Delivery delivery) {
+        DeliverySnapshot snapshot = delivery.snapshot();
+        String payload = codec.encode(snapshot);
+        return snapshotRepository.findById(delivery.getId())
+                .map(record -> {
+                    record.update(snapshot.version(), payload);
+                    return record;
+                })
+                .orElseGet(() -> DeliverySnapshotRecord.of(delivery.getId(), snapshot.version(), payload));
+    }
+
+    // No modo JPA quem publica é o Spring Data, no save do repositório
+    private void publishDomainEvents(List<Delivery> deliveries) {
+        for (Delivery delivery : deliveries) {
+            delivery.domainEvents().forEach(eventPublisher::publishEvent);
+            delivery.clearDomainEvents();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EventStoreProperties.class)
+public class EventStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "delivery.storage", name = "mode", havingValue = "event-sourced")
+    public EventSourcedDeliveryStore eventSourcedDeliveryStore(DeliveryEventRecordRepository eventRepository,
+                                                               DeliverySnapshotRecordRepository snapshotRepository,
+                                                               ApplicationEventPublisher eventPublisher,
+                                                               ObjectMapper objectMapper,
+                                                               EventStoreProperties properties) {
+        return new EventSourcedDeliveryStore(eventRepository, snapshotRepository, eventPublisher, objectMapper, properties);
+    }
+}
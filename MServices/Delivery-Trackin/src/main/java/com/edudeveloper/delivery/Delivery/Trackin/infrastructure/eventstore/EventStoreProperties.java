@@ -0,0 +1,17 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.storage")
+public class EventStoreProperties {
+
+    // jpa | event-sourced
+    private String mode = "jpa";
+
+    // Um snapshot a cada N eventos: a reconstrução lê no máximo N - 1 eventos além do snapshot
+    private int snapshotEvery = 50;
+}
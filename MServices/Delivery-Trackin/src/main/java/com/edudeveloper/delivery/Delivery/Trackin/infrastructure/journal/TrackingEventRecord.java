@@ -0,0 +1,75 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+// Histórico de rastreamento no banco, alimentado pelo journal; (journal, sequence) é a chave,
+// então a drenagem nunca grava a mesma mudança duas vezes e instâncias diferentes não colidem
+@Entity
+@IdClass(TrackingEventRecordId.class)
+@Table(name = "delivery_tracking_event", indexes =
+        @Index(name = "idx_delivery_tracking_event_delivery", columnList = "delivery_id, occurred_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
+public class TrackingEventRecord implements Persistable<TrackingEventRecordId> {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID journalId;
+
+    @Id
+    @EqualsAndHashCode.Include
+    private Long sequence;
+
+    @Column(name = "delivery_id", nullable = false)
+    private UUID deliveryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeliveryStatus status;
+
+    private UUID courierId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private OffsetDateTime occurredAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean isNew;
+
+    static TrackingEventRecord of(UUID journalId, TrackingJournalEntry entry) {
+        TrackingEventRecord record = new TrackingEventRecord();
+        record.setJournalId(journalId);
+        record.setSequence(entry.sequence());
+        record.setDeliveryId(entry.deliveryId());
+        record.setStatus(entry.status());
+        record.setCourierId(entry.courierId());
+        record.setOccurredAt(entry.occurredAt().atOffset(ZoneOffset.UTC));
+        record.setNew(true);
+        return record;
+    }
+
+    @Override
+    public TrackingEventRecordId getId() {
+        return new TrackingEventRecordId(journalId, sequence);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
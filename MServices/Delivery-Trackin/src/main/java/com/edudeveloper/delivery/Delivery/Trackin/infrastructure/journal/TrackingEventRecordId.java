@@ -0,0 +1,16 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+// Chave do histórico drenado: a sequence só é única dentro do journal que a gerou
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+public class TrackingEventRecordId implements Serializable {
+    private UUID journalId;
+    private Long sequence;
+}
@@ -0,0 +1,19 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TrackingEventRecordRepository extends JpaRepository<TrackingEventRecord, TrackingEventRecordId> {
+
+    // Última sequence já drenada deste journal: ponto de retomada após um restart
+    @Query("select coalesce(max(e.sequence), 0) from TrackingEventRecord e where e.journalId = :journalId")
+    long findLastSequence(@Param("journalId") UUID journalId);
+
+    List<TrackingEventRecord> findByDeliveryIdOrderByOccurredAtAscSequenceAsc(UUID deliveryId);
+}
@@ -0,0 +1,366 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Journal append-only das mudanças de status, gravado em segmentos de tamanho fixo mapeados em memória.
+// Os registros também têm tamanho fixo, então a posição de uma sequence é calculada:
+// segmento = (sequence - 1) / registros por segmento, deslocamento = resto * RECORD_SIZE.
+//
+// Layout do registro (big endian):
+//  0 sequence | 8 occurredAt (epoch millis) | 16 deliveryId (msb, lsb) | 32 courierId (msb, lsb)
+// 48 status (ordinal) | 49 flags | 50 reservado | 52 CRC32 dos bytes 0..51
+//
+// As sequences só valem dentro de um diretório: um diretório novo (ou perdido) recomeça do 1.
+// Por isso cada diretório tem um id próprio, gravado no arquivo journal.id, que acompanha a sequence fora daqui.
+@Slf4j
+public class TrackingJournal implements Closeable {
+
+    static final int RECORD_SIZE = 56;
+    private static final int CHECKSUM_OFFSET = 52;
+    private static final byte HAS_COURIER = 1;
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String ID_FILE = "journal.id";
+    private static final DeliveryStatus[] STATUSES = DeliveryStatus.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int recordsPerSegment;
+    private UUID journalId;
+
+    // Segmentos retidos, por número; leitores consultam sem o lock de escrita
+    private final NavigableMap<Long, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+
+    // Índice por entrega: só as sequences daquela entrega, o deslocamento sai da própria sequence
+    private final Map<UUID, SequenceList> index = new HashMap<>();
+
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+    private final CRC32 crc = new CRC32();
+
+    private MappedByteBuffer active;
+    private long activeSegment;
+    private volatile long lastSequence;
+    private volatile long firstSequence = 1;
+    private boolean closed;
+
+    private TrackingJournal(Path directory, int segmentSize) {
+        if (segmentSize < RECORD_SIZE) {
+            throw new IllegalArgumentException("O segmento precisa comportar ao menos um registro de " + RECORD_SIZE + " bytes");
+        }
+        this.directory = directory;
+        this.recordsPerSegment = segmentSize / RECORD_SIZE;
+        this.segmentSize = recordsPerSegment * RECORD_SIZE;
+    }
+
+    // Abre o diretório e reconstrói o índice lendo os segmentos existentes em ordem
+    public static TrackingJournal open(Path directory, int segmentSize) throws IOException {
+        TrackingJournal journal = new TrackingJournal(directory, segmentSize);
+        Files.createDirectories(directory);
+        journal.journalId = readOrCreateId(directory);
+        journal.recover();
+        return journal;
+    }
+
+    public synchronized TrackingJournalEntry append(UUID deliveryId, DeliveryStatus status, UUID courierId, Instant occurredAt) {
+        Objects.requireNonNull(deliveryId);
+        Objects.requireNonNull(status);
+        Objects.requireNonNull(occurredAt);
+        if (closed) {
+            throw new IllegalStateException("Journal de rastreamento fechado");
+        }
+
+        long sequence = lastSequence + 1;
+        long segment = segmentOf(sequence);
+        if (segment != activeSegment) {
+            roll(segment);
+        }
+
+        scratchBuffer.putLong(0, sequence);
+        scratchBuffer.putLong(8, occurredAt.toEpochMilli());
+        scratchBuffer.putLong(16, deliveryId.getMostSignificantBits());
+        scratchBuffer.putLong(24, deliveryId.getLeastSignificantBits());
+        scratchBuffer.putLong(32, courierId == null ? 0 : courierId.getMostSignificantBits());
+        scratchBuffer.putLong(40, courierId == null ? 0 : courierId.getLeastSignificantBits());
+        scratchBuffer.put(48, (byte) status.ordinal());
+        scratchBuffer.put(49, courierId == null ? 0 : HAS_COURIER);
+        scratchBuffer.putShort(50, (short) 0);
+        scratchBuffer.putInt(CHECKSUM_OFFSET, checksum(scratch));
+        active.put(offsetOf(sequence), scratch);
+
+        index.computeIfAbsent(deliveryId, id -> new SequenceList()).add(sequence);
+        lastSequence = sequence;
+        return new TrackingJournalEntry(sequence, deliveryId, status, courierId, Instant.ofEpochMilli(occurredAt.toEpochMilli()));
+    }
+
+    // Histórico retido de uma entrega, na ordem em que foi gravado
+    public List<TrackingJournalEntry> history(UUID deliveryId) {
+        long[] sequences;
+        synchronized (this) {
+            SequenceList list = index.get(deliveryId);
+            if (list == null) {
+                return List.of();
+            }
+            sequences = list.toArray();
+        }
+        List<TrackingJournalEntry> history = new ArrayList<>(sequences.length);
+        for (long sequence : sequences) {
+            TrackingJournalEntry entry = read(sequence);
+            if (entry != null) {
+                history.add(entry);
+            }
+        }
+        return history;
+    }
+
+    // Leitura sequencial a partir de afterSequence (exclusive), limitada a maxEntries
+    public List<TrackingJournalEntry> read(long afterSequence, int maxEntries) {
+        List<TrackingJournalEntry> entries = new ArrayList<>(Math.min(maxEntries, 1024));
+        replay(afterSequence, maxEntries, entries::add);
+        return entries;
+    }
+
+    public int replay(long afterSequence, int maxEntries, Consumer<TrackingJournalEntry> consumer) {
+        long from = Math.max(afterSequence + 1, firstSequence);
+        long to = Math.min(lastSequence, afterSequence + maxEntries);
+        int replayed = 0;
+        for (long sequence = from; sequence <= to; sequence++) {
+            TrackingJournalEntry entry = read(sequence);
+            if (entry == null) {
+                break;
+            }
+            consumer.accept(entry);
+            replayed++;
+        }
+        return replayed;
+    }
+
+    // Descarta os segmentos inteiramente anteriores a sequence; o segmento ativo nunca é removido
+    public synchronized void truncateBefore(long sequence) {
+        long retainedFrom = firstSequence;
+        Iterator<Map.Entry<Long, MappedByteBuffer>> iterator = segments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            long segment = iterator.next().getKey();
+            long lastOfSegment = (segment + 1) * recordsPerSegment;
+            if (segment == activeSegment || lastOfSegment >= sequence) {
+                break;
+            }
+            iterator.remove();
+            deleteSegment(segment);
+            retainedFrom = lastOfSegment + 1;
+        }
+        if (retainedFrom == firstSequence) {
+            return;
+        }
+        firstSequence = retainedFrom;
+        index.values().removeIf(list -> list.dropBefore(firstSequence));
+    }
+
+    public UUID journalId() {
+        return journalId;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    public long firstSequence() {
+        return firstSequence;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (active != null) {
+            active.force();
+        }
+        segments.clear();
+        index.clear();
+    }
+
+    private TrackingJournalEntry read(long sequence) {
+        MappedByteBuffer segment = segments.get(segmentOf(sequence));
+        if (segment == null) {
+            return null;
+        }
+        int offset = offsetOf(sequence);
+        UUID courierId = segment.get(offset + 49) == HAS_COURIER
+                ? new UUID(segment.getLong(offset + 32), segment.getLong(offset + 40))
+                : null;
+        return new TrackingJournalEntry(
+                segment.getLong(offset),
+                new UUID(segment.getLong(offset + 16), segment.getLong(offset + 24)),
+                STATUSES[segment.get(offset + 48)],
+                courierId,
+                Instant.ofEpochMilli(segment.getLong(offset + 8)));
+    }
+
+    // Lê os segmentos em ordem até o primeiro registro ausente ou com CRC inválido,
+    // que marca o fim do que foi gravado (o resto do arquivo mapeado é zero)
+    private void recover() throws IOException {
+        List<Long> existing = listSegments();
+        if (existing.isEmpty()) {
+            roll(0);
+            lastSequence = 0;
+            return;
+        }
+
+        firstSequence = existing.getFirst() * recordsPerSegment + 1;
+        long expected = firstSequence;
+        for (int i = 0; i < existing.size(); i++) {
+            long segment = existing.get(i);
+            if (segment * recordsPerSegment + 1 != expected) {
+                throw new IllegalStateException("Segmento ausente no journal de rastreamento antes de " + segmentPath(segment));
+            }
+            MappedByteBuffer buffer = map(segment);
+            segments.put(segment, buffer);
+            int recovered = recoverSegment(buffer, expected);
+            expected += recovered;
+            boolean partial = recovered < recordsPerSegment;
+            if (partial && i < existing.size() - 1) {
+                throw new IllegalStateException("Registro inválido no meio do journal de rastreamento: " + segmentPath(segment));
+            }
+        }
+
+        activeSegment = existing.getLast();
+        active = segments.get(activeSegment);
+        lastSequence = expected - 1;
+        log.info("Journal de rastreamento recuperado: sequences {} a {} em {} segmento(s)",
+                firstSequence, lastSequence, segments.size());
+    }
+
+    private int recoverSegment(MappedByteBuffer buffer, long firstOfSegment) {
+        byte[] record = new byte[RECORD_SIZE];
+        for (int slot = 0; slot < recordsPerSegment; slot++) {
+            int offset = slot * RECORD_SIZE;
+            long sequence = firstOfSegment + slot;
+            buffer.get(offset, record);
+            if (buffer.getLong(offset) != sequence || buffer.getInt(offset + CHECKSUM_OFFSET) != checksum(record)) {
+                return slot;
+            }
+            UUID deliveryId = new UUID(buffer.getLong(offset + 16), buffer.getLong(offset + 24));
+            index.computeIfAbsent(deliveryId, id -> new SequenceList()).add(sequence);
+        }
+        return recordsPerSegment;
+    }
+
+    private void roll(long segment) {
+        if (active != null) {
+            active.force();
+        }
+        active = map(segment);
+        activeSegment = segment;
+        segments.put(segment, active);
+    }
+
+    private MappedByteBuffer map(long segment) {
+        Path path = segmentPath(segment);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size != 0 && size != segmentSize) {
+                throw new IllegalStateException("Segmento " + path + " tem " + size + " bytes, esperado " + segmentSize);
+            }
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível mapear o segmento " + path, e);
+        }
+    }
+
+    private void deleteSegment(long segment) {
+        try {
+            Files.deleteIfExists(segmentPath(segment));
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o segmento {}", segmentPath(segment), e);
+        }
+    }
+
+    private static UUID readOrCreateId(Path directory) throws IOException {
+        Path idFile = directory.resolve(ID_FILE);
+        if (Files.exists(idFile)) {
+            return UUID.fromString(Files.readString(idFile).trim());
+        }
+        UUID id = UUID.randomUUID();
+        Path temporary = directory.resolve(ID_FILE + ".tmp");
+        Files.writeString(temporary, id.toString());
+        Files.move(temporary, idFile, StandardCopyOption.ATOMIC_MOVE);
+        return id;
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    private long segmentOf(long sequence) {
+        return (sequence - 1) / recordsPerSegment;
+    }
+
+    private int offsetOf(long sequence) {
+        return (int) ((sequence - 1) % recordsPerSegment) * RECORD_SIZE;
+    }
+
+    private int checksum(byte[] record) {
+        crc.reset();
+        crc.update(record, 0, CHECKSUM_OFFSET);
+        return (int) crc.getValue();
+    }
+
+    // Lista crescente de sequences em long[], sem boxing
+    private static final class SequenceList {
+
+        private long[] values = new long[4];
+        private int start;
+        private int size;
+
+        void add(long sequence) {
+            if (start + size == values.length) {
+                values = Arrays.copyOfRange(values, start, start + Math.max(8, size * 2));
+                start = 0;
+            }
+            values[start + size++] = sequence;
+        }
+
+        // Remove as sequences anteriores a first; retorna true quando a lista fica vazia
+        boolean dropBefore(long first) {
+            while (size > 0 && values[start] < first) {
+                start++;
+                size--;
+            }
+            return size == 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOfRange(values, start, start + size);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(TrackingJournalProperties.class)
+@ConditionalOnProperty(prefix = "delivery.journal", name = "enabled", havingValue = "true")
+public class TrackingJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public TrackingJournal trackingJournal(TrackingJournalProperties properties) throws IOException {
+        return TrackingJournal.open(properties.getDirectory(), Math.toIntExact(properties.getSegmentSize().toBytes()));
+    }
+
+    @Bean
+    public TrackingJournalListener trackingJournalListener(TrackingJournal trackingJournal) {
+        return new TrackingJournalListener(trackingJournal);
+    }
+
+    @Bean
+    public TrackingJournalDrainer trackingJournalDrainer(TrackingJournal trackingJournal,
+                                                         TrackingEventRecordRepository trackingEventRecordRepository,
+                                                         TrackingJournalProperties properties,
+                                                         TransactionTemplate transactionTemplate) {
+        return new TrackingJournalDrainer(trackingJournal, trackingEventRecordRepository, properties, transactionTemplate);
+    }
+
+    // Repete a condição: a classe aninhada também é encontrada pelo component scan
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(prefix = "delivery.journal", name = "enabled", havingValue = "true")
+    @RequiredArgsConstructor
+    static class DrainSchedulingConfig {
+
+        private final TrackingJournalDrainer trackingJournalDrainer;
+
+        @Scheduled(fixedDelayString = "${delivery.journal.drain-interval:PT1S}")
+        void drain() {
+            trackingJournalDrainer.drainPeriodically();
+        }
+    }
+}
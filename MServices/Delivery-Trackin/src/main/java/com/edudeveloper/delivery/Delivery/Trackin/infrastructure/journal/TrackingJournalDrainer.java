@@ -0,0 +1,56 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Copia o journal para o banco em lotes. Se o banco estiver lento ou fora, as mudanças
+// continuam sendo anotadas no journal e a drenagem retoma de onde parou no próximo ciclo
+@Slf4j
+@RequiredArgsConstructor
+public class TrackingJournalDrainer {
+
+    private final TrackingJournal journal;
+    private final TrackingEventRecordRepository trackingEventRecordRepository;
+    private final TrackingJournalProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private long drainedSequence = -1;
+
+    public void drainPeriodically() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao drenar o journal de rastreamento, nova tentativa no próximo ciclo", e);
+        }
+    }
+
+    public synchronized int drain() {
+        if (drainedSequence < 0) {
+            drainedSequence = trackingEventRecordRepository.findLastSequence(journal.journalId());
+        }
+        int total = 0;
+        List<TrackingJournalEntry> batch;
+        do {
+            batch = journal.read(drainedSequence, properties.getDrainBatchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<TrackingJournalEntry> entries = batch;
+            transactionTemplate.executeWithoutResult(status -> trackingEventRecordRepository.saveAll(
+                    entries.stream().map(entry -> TrackingEventRecord.of(journal.journalId(), entry)).toList()));
+            drainedSequence = batch.getLast().sequence();
+            total += batch.size();
+        } while (batch.size() == properties.getDrainBatchSize());
+
+        // Só descarta o que foi gravado no banco, nunca além do fim do journal
+        journal.truncateBefore(Math.min(drainedSequence, journal.lastSequence()) + 1);
+        return total;
+    }
+
+    public long drainedSequence() {
+        return drainedSequence;
+    }
+}
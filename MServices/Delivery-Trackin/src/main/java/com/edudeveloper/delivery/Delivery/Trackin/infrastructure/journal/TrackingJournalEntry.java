@@ -0,0 +1,14 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Mudança de status registrada no journal; sequence é a posição global, a partir de 1
+public record TrackingJournalEntry(long sequence,
+                                   UUID deliveryId,
+                                   DeliveryStatus status,
+                                   UUID courierId,
+                                   Instant occurredAt) {
+}
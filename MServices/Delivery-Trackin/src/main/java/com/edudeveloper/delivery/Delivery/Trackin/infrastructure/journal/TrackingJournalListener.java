@@ -0,0 +1,30 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryFulfilledEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPickUpEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPlacedEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Anota no journal as mudanças de status depois do commit: rollbacks não entram no histórico
+@RequiredArgsConstructor
+public class TrackingJournalListener {
+
+    private final TrackingJournal journal;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryPlacedEvent event) {
+        journal.append(event.getDeliveryId(), DeliveryStatus.WAITING_FOR_COURIER, null, event.getOccurredAt().toInstant());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryPickUpEvent event) {
+        journal.append(event.getDeliveryId(), DeliveryStatus.IN_TRANSIT, event.getCourierId(), event.getOccurredAt().toInstant());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryFulfilledEvent event) {
+        journal.append(event.getDeliveryId(), DeliveryStatus.DELIVERY, event.getCourierId(), event.getOccurredAt().toInstant());
+    }
+}
@@ -0,0 +1,27 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.journal")
+public class TrackingJournalProperties {
+
+    private boolean enabled = false;
+
+    private Path directory = Path.of("data", "tracking-journal");
+
+    // Arredondado para baixo a um múltiplo do tamanho do registro
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    // Registros gravados no banco por transação de drenagem
+    private int drainBatchSize = 500;
+
+    private Duration drainInterval = Duration.ofSeconds(1);
+}
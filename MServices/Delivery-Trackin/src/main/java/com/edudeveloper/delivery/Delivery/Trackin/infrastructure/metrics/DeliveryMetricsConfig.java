@@ -0,0 +1,18 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.metrics;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DeliveryMetricsConfig {
+
+    // Instala o observador no DomainContext; o modelo de domínio não depende do Micrometer
+    @Bean
+    public MicrometerDeliveryObserver micrometerDeliveryObserver(MeterRegistry registry) {
+        MicrometerDeliveryObserver observer = new MicrometerDeliveryObserver(registry);
+        DomainContext.use(observer);
+        return observer;
+    }
+}
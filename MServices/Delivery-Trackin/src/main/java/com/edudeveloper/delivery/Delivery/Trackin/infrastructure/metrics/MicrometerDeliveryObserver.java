@@ -0,0 +1,73 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.metrics;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DeliveryObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Métricas do ciclo de vida da entrega. Todos os medidores são registrados na criação e indexados por
+// ordinal, então o caminho crítico é só um acesso a array e um incremento, sem tags nem alocação.
+public class MicrometerDeliveryObserver implements DeliveryObserver {
+
+    private static final DeliveryStatus[] STATUSES = DeliveryStatus.values();
+    private static final Rejection[] REJECTIONS = Rejection.values();
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Counter[][] transitions = new Counter[STATUSES.length][STATUSES.length];
+    private final Counter[][][] rejections = new Counter[REJECTIONS.length][STATUSES.length][STATUSES.length];
+    private final Timer[] stages = new Timer[STAGES.length];
+
+    public MicrometerDeliveryObserver(MeterRegistry registry) {
+        for (DeliveryStatus from : STATUSES) {
+            for (DeliveryStatus to : STATUSES) {
+                if (from.canChangeTo(to)) {
+                    transitions[from.ordinal()][to.ordinal()] = Counter.builder("delivery.transitions")
+                            .description("Transições de status aplicadas no agregado Delivery")
+                            .tag("from", from.name())
+                            .tag("to", to.name())
+                            .register(registry);
+                }
+                for (Rejection reason : REJECTIONS) {
+                    rejections[reason.ordinal()][from.ordinal()][to.ordinal()] = Counter.builder("delivery.transitions.rejected")
+                            .description("Transições de status rejeitadas pelo agregado Delivery")
+                            .tag("from", from.name())
+                            .tag("to", to.name())
+                            .tag("reason", reason.name())
+                            .register(registry);
+                }
+            }
+        }
+        for (Stage stage : STAGES) {
+            stages[stage.ordinal()] = Timer.builder("delivery.stage.duration")
+                    .description("Tempo em cada etapa: placedAt -> assignedAt e assignedAt -> fulfilledAt")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofSeconds(1))
+                    .maximumExpectedValue(Duration.ofHours(24))
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void transitioned(DeliveryStatus from, DeliveryStatus to) {
+        Counter counter = transitions[from.ordinal()][to.ordinal()];
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void rejected(DeliveryStatus from, DeliveryStatus to, Rejection reason) {
+        rejections[reason.ordinal()][from.ordinal()][to.ordinal()].increment();
+    }
+
+    @Override
+    public void stageCompleted(Stage stage, long durationNanos) {
+        stages[stage.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,19 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Publicador padrão enquanto não há broker configurado
+@Slf4j
+@Component
+public class LoggingOutboxMessagePublisher implements OutboxMessagePublisher {
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.info("Evento {} da entrega {}: {}", message.getEventType(), message.getAggregateId(), message.getPayload());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryFulfilledEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryLateEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPickUpEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPlacedEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryUnassignedTooLongEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Grava os eventos publicados pelo agregado no outbox, dentro da transação de quem salvou a entrega
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(DeliveryPlacedEvent event) {
+        append(event.getDeliveryId(), event, event.getOccurredAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(DeliveryPickUpEvent event) {
+        append(event.getDeliveryId(), event, event.getOccurredAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(DeliveryFulfilledEvent event) {
+        append(event.getDeliveryId(), event, event.getOccurredAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(DeliveryLateEvent event) {
+        append(event.getDeliveryId(), event, event.getOccurredAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(DeliveryUnassignedTooLongEvent event) {
+        append(event.getDeliveryId(), event, event.getOccurredAt());
+    }
+
+    private void append(UUID deliveryId, Object event, OffsetDateTime occurredAt) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxMessageRepository.save(OutboxMessage.of(deliveryId, event.getClass().getSimpleName(), payload, occurredAt));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o evento " + event, e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Evento de domínio gravado na mesma transação da alteração do agregado, aguardando o relay
+@Entity
+@Table(name = "outbox_message")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
+public class OutboxMessage implements Persistable<UUID> {
+
+    // UUIDv7 - a ordem do id é a ordem de gravação
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID id;
+
+    private UUID aggregateId;
+    private String eventType;
+
+    @Column(length = 4000)
+    private String payload;
+
+    private OffsetDateTime occurredAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean isNew;
+
+    static OutboxMessage of(UUID aggregateId, String eventType, String payload, OffsetDateTime occurredAt) {
+        OutboxMessage message = new OutboxMessage();
+        message.setId(DomainContext.nextId());
+        message.setAggregateId(aggregateId);
+        message.setEventType(eventType);
+        message.setPayload(payload);
+        message.setOccurredAt(occurredAt);
+        message.setNew(true);
+        return message;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
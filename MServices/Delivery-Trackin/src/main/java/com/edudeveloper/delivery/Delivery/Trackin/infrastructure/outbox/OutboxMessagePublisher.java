@@ -0,0 +1,8 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox;
+
+import java.util.List;
+
+// Destino das mensagens drenadas do outbox (broker, HTTP, ...). Uma exceção mantém o lote no outbox.
+public interface OutboxMessagePublisher {
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,49 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Drena o outbox em lotes: publica e apaga cada lote em uma transação
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxMessagePublisher outboxMessagePublisher;
+    private final OutboxRelayProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public void relay() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao drenar o outbox, nova tentativa no próximo ciclo", e);
+        }
+    }
+
+    public int drain() {
+        int total = 0;
+        int published;
+        do {
+            published = transactionTemplate.execute(status -> publishNextBatch());
+            total += published;
+        } while (published == properties.getBatchSize());
+        return total;
+    }
+
+    private int publishNextBatch() {
+        List<OutboxMessage> batch = outboxMessageRepository.findNextBatch(Limit.of(properties.getBatchSize()));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        outboxMessagePublisher.publish(batch);
+        outboxMessageRepository.deleteAllInBatch(batch);
+        return batch.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+public class OutboxRelayConfig {
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(prefix = "delivery.outbox.relay", name = "enabled", matchIfMissing = true)
+    @RequiredArgsConstructor
+    static class SchedulingConfig {
+
+        private final OutboxRelay outboxRelay;
+
+        // O agendamento fica aqui para só existir com o relay ligado, mesmo que outro módulo ligue o @EnableScheduling
+        @Scheduled(fixedDelayString = "${delivery.outbox.relay.linger:PT1S}")
+        void relay() {
+            outboxRelay.relay();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.outbox.relay")
+public class OutboxRelayProperties {
+
+    private boolean enabled = true;
+
+    // Quantidade máxima de mensagens publicadas por lote
+    private int batchSize = 100;
+
+    // Intervalo entre drenagens: mensagens se acumulam nesse tempo e saem em lotes maiores
+    private Duration linger = Duration.ofSeconds(1);
+}
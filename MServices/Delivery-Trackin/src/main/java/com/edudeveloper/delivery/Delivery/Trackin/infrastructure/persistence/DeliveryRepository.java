@@ -0,0 +1,41 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DeliveryRepository extends JpaRepository<Delivery, UUID> {
+
+    // Carrega o agregado com os itens em uma única consulta
+    @EntityGraph(attributePaths = "items")
+    Optional<Delivery> findWithItemsById(UUID id);
+
+    // Keyset: próxima página depois do cursor (afterFulfilledAt, afterId), em ordem de (fulfilledAt, id).
+    // O custo de cada página não depende de quantas já foram lidas, ao contrário de OFFSET.
+    @Query("""
+            select new com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.FulfilledDeliveryRow(
+                d.id, d.courierId, d.fulfilledAt, d.distanceFee, d.courierPayout, d.totalCost)
+            from Delivery d
+            where d.fulfilledAt >= :afterFulfilledAt and d.fulfilledAt < :to
+              and (d.fulfilledAt > :afterFulfilledAt or d.id > :afterId)
+            order by d.fulfilledAt, d.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    List<FulfilledDeliveryRow> findFulfilledAfter(@Param("afterFulfilledAt") OffsetDateTime afterFulfilledAt,
+                                                  @Param("afterId") UUID afterId,
+                                                  @Param("to") OffsetDateTime to,
+                                                  Limit limit);
+}
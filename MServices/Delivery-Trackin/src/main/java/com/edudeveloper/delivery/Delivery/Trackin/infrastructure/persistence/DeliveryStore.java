@@ -0,0 +1,21 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Armazenamento do agregado Delivery usado pelos serviços de domínio.
+// delivery.storage.mode escolhe a implementação: jpa (padrão) ou event-sourced.
+public interface DeliveryStore {
+
+    Optional<Delivery> findById(UUID deliveryId);
+
+    // Com os itens carregados, para uso fora da transação
+    Optional<Delivery> findWithItemsById(UUID deliveryId);
+
+    Delivery save(Delivery delivery);
+
+    void saveAll(List<Delivery> deliveries);
+}
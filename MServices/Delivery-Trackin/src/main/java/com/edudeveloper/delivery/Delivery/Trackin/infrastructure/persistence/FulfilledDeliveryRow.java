@@ -0,0 +1,15 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Projeção por construtor da exportação: só as colunas exportadas, sem carregar o agregado
+public record FulfilledDeliveryRow(
+        UUID id,
+        UUID courierId,
+        OffsetDateTime fulfilledAt,
+        BigDecimal distanceFee,
+        BigDecimal courierPayout,
+        BigDecimal totalCost) {
+}
@@ -0,0 +1,42 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Estado atual na tabela delivery (e itens), atualizado a cada gravação.
+// O log de mudanças do agregado não é usado aqui e é descartado a cada gravação.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "delivery.storage", name = "mode", havingValue = "jpa", matchIfMissing = true)
+public class JpaDeliveryStore implements DeliveryStore {
+
+    private final DeliveryRepository deliveryRepository;
+
+    @Override
+    public Optional<Delivery> findById(UUID deliveryId) {
+        return deliveryRepository.findById(deliveryId);
+    }
+
+    @Override
+    public Optional<Delivery> findWithItemsById(UUID deliveryId) {
+        return deliveryRepository.findWithItemsById(deliveryId);
+    }
+
+    @Override
+    public Delivery save(Delivery delivery) {
+        delivery.discardChanges();
+        return deliveryRepository.save(delivery);
+    }
+
+    @Override
+    public void saveAll(List<Delivery> deliveries) {
+        deliveries.forEach(Delivery::discardChanges);
+        deliveryRepository.saveAll(deliveries);
+    }
+}
@@ -0,0 +1,77 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Read Model - visão desnormalizada usada nas consultas de rastreamento, sem remetente, destinatário nem itens.
+// UPDATE só das colunas alteradas, para a projeção não sobrescrever as marcações de aviso de prazo.
+@Entity
+@DynamicUpdate
+@Table(name = "delivery_tracking", indexes = {
+        @Index(name = "idx_delivery_tracking_courier", columnList = "courier_id, status"),
+        @Index(name = "idx_delivery_tracking_status", columnList = "status, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter(AccessLevel.PRIVATE)
+@Getter
+public class DeliveryTracking implements Persistable<UUID> {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    private DeliveryStatus status;
+
+    private UUID courierId;
+
+    private OffsetDateTime placedAt;
+    private OffsetDateTime assignedAt;
+    private OffsetDateTime expectedDeliveryAt;
+    private OffsetDateTime fulfilledAt;
+
+    // Avisos de prazo já publicados; gravados só pelas consultas de DeliveryTrackingRepository
+    private OffsetDateTime unassignedNotifiedAt;
+    private OffsetDateTime lateNotifiedAt;
+
+    // Evita o SELECT do merge ao inserir uma projeção nova com id atribuído
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean isNew;
+
+    static DeliveryTracking of(Delivery delivery) {
+        DeliveryTracking tracking = new DeliveryTracking();
+        tracking.setId(delivery.getId());
+        tracking.setNew(true);
+        tracking.update(delivery);
+        return tracking;
+    }
+
+    void update(Delivery delivery) {
+        setStatus(delivery.getStatus());
+        setCourierId(delivery.getCourierId());
+        setPlacedAt(delivery.getPlacedAt());
+        setAssignedAt(delivery.getAssignedAt());
+        setExpectedDeliveryAt(delivery.getExpectedDeliveryAt());
+        setFulfilledAt(delivery.getFulfilledAt());
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
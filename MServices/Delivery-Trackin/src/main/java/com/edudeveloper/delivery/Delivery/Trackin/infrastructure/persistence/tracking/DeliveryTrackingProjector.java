@@ -0,0 +1,31 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Mantém o read model de rastreamento em sincronia, na mesma transação da escrita no agregado
+@Component
+@RequiredArgsConstructor
+public class DeliveryTrackingProjector {
+
+    private final DeliveryTrackingRepository deliveryTrackingRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void project(Delivery delivery) {
+        deliveryTrackingRepository.findById(delivery.getId())
+                .ifPresentOrElse(
+                        tracking -> tracking.update(delivery),
+                        () -> deliveryTrackingRepository.save(DeliveryTracking.of(delivery)));
+    }
+
+    // Entregas recém-criadas: insere as projeções sem consultar se já existem
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void projectNew(List<Delivery> deliveries) {
+        deliveryTrackingRepository.saveAll(deliveries.stream().map(DeliveryTracking::of).toList());
+    }
+}
@@ -0,0 +1,47 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DeliveryTrackingRepository extends JpaRepository<DeliveryTracking, UUID> {
+
+    Slice<DeliveryTracking> findByCourierId(UUID courierId, Pageable pageable);
+
+    Slice<DeliveryTracking> findByCourierIdAndStatus(UUID courierId, DeliveryStatus status, Pageable pageable);
+
+    Slice<DeliveryTracking> findByStatus(DeliveryStatus status, Pageable pageable);
+
+    // Keyset por id dentro dos status informados, sem OFFSET
+    List<DeliveryTracking> findByStatusInAndIdGreaterThanOrderById(Collection<DeliveryStatus> statuses, UUID afterId, Limit limit);
+
+    // Reivindica o aviso de prazo pelo id: 1 só se a entrega ainda está no status esperado, o prazo venceu
+    // e ninguém avisou ainda. O UPDATE trava a linha, então entre vários nós apenas um recebe 1.
+    @Modifying
+    @Query("""
+            update DeliveryTracking t set t.unassignedNotifiedAt = :now
+            where t.id = :id and t.status = :status and t.placedAt <= :placedBefore and t.unassignedNotifiedAt is null
+            """)
+    int claimUnassignedNotice(@Param("id") UUID id, @Param("status") DeliveryStatus status,
+                              @Param("placedBefore") OffsetDateTime placedBefore, @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("""
+            update DeliveryTracking t set t.lateNotifiedAt = :now
+            where t.id = :id and t.status in :statuses and t.expectedDeliveryAt <= :now and t.lateNotifiedAt is null
+            """)
+    int claimLateNotice(@Param("id") UUID id, @Param("statuses") Collection<DeliveryStatus> statuses,
+                        @Param("now") OffsetDateTime now);
+}
@@ -0,0 +1,51 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.routing;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DistanceProvider;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.RouteEstimate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+
+// Memoriza as estimativas pelo par exato e ordenado de CEPs, com limite de tamanho e expiração por TTL.
+// A chave é exatamente o que o delegate recebe: agrupar por prefixo ou sentido é decisão do delegate.
+public class CachingDistanceProvider implements DistanceProvider, MeterBinder {
+
+    private final DistanceProvider delegate;
+    private final Cache<ZipCodePair, RouteEstimate> cache;
+
+    public CachingDistanceProvider(DistanceProvider delegate, long maximumSize, Duration ttl) {
+        this(delegate, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CachingDistanceProvider(DistanceProvider delegate, long maximumSize, Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public RouteEstimate estimate(String originZipCode, String destinationZipCode) {
+        return cache.get(ZipCodePair.of(originZipCode, destinationZipCode),
+                key -> delegate.estimate(key.origin(), key.destination()));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(cache, "routing", Tags.empty()).bindTo(registry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.routing;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DistanceProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RoutingProperties.class)
+public class RoutingConfig {
+
+    @Bean
+    public CachingDistanceProvider distanceProvider(RoutingProperties properties) {
+        DistanceProvider table = TableDistanceProvider.fromCsv(properties.getTable());
+        return new CachingDistanceProvider(table, properties.getCache().getMaximumSize(), properties.getCache().getTtl());
+    }
+}
@@ -0,0 +1,25 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.routing")
+public class RoutingProperties {
+
+    private Resource table;
+
+    private Cache cache = new Cache();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofHours(1);
+    }
+}
@@ -0,0 +1,80 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.routing;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DistanceProvider;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.RouteEstimate;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// Tabela local de distâncias entre prefixos de CEP (5 primeiros dígitos), nos dois sentidos.
+// Substitui o serviço de rotas em testes e ambientes locais.
+public class TableDistanceProvider implements DistanceProvider {
+
+    private static final int PREFIX_LENGTH = 5;
+
+    // Par de prefixos sem ordem: (A, B) e (B, A) são a mesma rota
+    public record PrefixPair(String first, String second) {
+
+        public static PrefixPair of(String originPrefix, String destinationPrefix) {
+            String origin = validPrefix(originPrefix);
+            String destination = validPrefix(destinationPrefix);
+            return origin.compareTo(destination) <= 0
+                    ? new PrefixPair(origin, destination)
+                    : new PrefixPair(destination, origin);
+        }
+
+        private static String validPrefix(String prefix) {
+            if (prefix == null || prefix.length() != PREFIX_LENGTH || !prefix.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                throw new IllegalArgumentException("Prefixo de CEP inválido na tabela de distâncias: " + prefix);
+            }
+            return prefix;
+        }
+    }
+
+    private final Map<PrefixPair, RouteEstimate> routes;
+
+    public TableDistanceProvider(Map<PrefixPair, RouteEstimate> routes) {
+        this.routes = Map.copyOf(routes);
+    }
+
+    // Formato CSV: origem;destino;distancia_km;minutos (linhas iniciadas por # são ignoradas)
+    public static TableDistanceProvider fromCsv(Resource resource) {
+        Map<PrefixPair, RouteEstimate> routes = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(";");
+                routes.put(PrefixPair.of(columns[0], columns[1]), new RouteEstimate(
+                        Double.parseDouble(columns[2]),
+                        Duration.ofMinutes(Long.parseLong(columns[3]))));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler a tabela de distâncias " + resource, e);
+        }
+        return new TableDistanceProvider(routes);
+    }
+
+    @Override
+    public RouteEstimate estimate(String originZipCode, String destinationZipCode) {
+        ZipCodePair zipCodes = ZipCodePair.of(originZipCode, destinationZipCode);
+        RouteEstimate route = routes.get(PrefixPair.of(
+                zipCodes.origin().substring(0, PREFIX_LENGTH),
+                zipCodes.destination().substring(0, PREFIX_LENGTH)));
+        if (route == null) {
+            throw new DomainException("Rota não encontrada entre os CEPs " + originZipCode + " e " + destinationZipCode);
+        }
+        return route;
+    }
+}
@@ -0,0 +1,28 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.routing;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+
+// Par ordenado de CEPs completos (8 dígitos, sem hífen): (A, B) e (B, A) são chaves diferentes.
+// Quem agrupa por prefixo ou ignora o sentido é o provedor, não a chave.
+public record ZipCodePair(String origin, String destination) {
+
+    static final int ZIP_CODE_LENGTH = 8;
+
+    public static ZipCodePair of(String originZipCode, String destinationZipCode) {
+        return new ZipCodePair(normalize(originZipCode), normalize(destinationZipCode));
+    }
+
+    // Aceita 01234567 ou 01234-567
+    static String normalize(String zipCode) {
+        if (zipCode == null) {
+            throw new DomainException("CEP obrigatório");
+        }
+        String digits = zipCode.length() == ZIP_CODE_LENGTH + 1 && zipCode.charAt(5) == '-'
+                ? zipCode.substring(0, 5) + zipCode.substring(6)
+                : zipCode;
+        if (digits.length() != ZIP_CODE_LENGTH || !digits.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            throw new DomainException("CEP inválido: " + zipCode);
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,36 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.sharding;
+
+import java.util.UUID;
+
+// Roteamento estável id -> shard. O id é UUIDv7 (timestamp nos bits altos), então os 128 bits
+// passam por um finalizador de hash antes do módulo para espalhar ids gerados em sequência.
+public class DeliveryShardRouter {
+
+    private final int shardCount;
+
+    public DeliveryShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("É preciso ao menos um shard");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardOf(UUID deliveryId) {
+        long hash = mix(deliveryId.getMostSignificantBits() ^ mix(deliveryId.getLeastSignificantBits()));
+        return (int) Math.floorMod(hash, (long) shardCount);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // Finalizador do MurmurHash3 (fmix64)
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
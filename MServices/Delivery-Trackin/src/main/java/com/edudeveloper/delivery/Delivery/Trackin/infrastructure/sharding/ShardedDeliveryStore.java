@@ -0,0 +1,193 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.sharding;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryChange;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DeliveryNotFoundException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Estado das entregas em memória, particionado em N shards pelo hash do id.
+// Cada shard tem uma única thread dona do seu mapa: operações na mesma entrega são serializadas
+// pela fila do shard, sem locks, e entregas de shards diferentes andam em paralelo.
+// Os agregados nunca saem da thread do shard; quem chama recebe snapshots imutáveis.
+public class ShardedDeliveryStore implements AutoCloseable {
+
+    // Recebe, na thread do shard, as mudanças de cada operação bem-sucedida e os eventos de domínio
+    // registrados por ela (ex.: gravar em segundo plano e publicar os eventos depois da gravação)
+    @FunctionalInterface
+    public interface ChangeSink {
+
+        ChangeSink NONE = (deliveryId, changes, events) -> {
+        };
+
+        void accept(UUID deliveryId, List<DeliveryChange> changes, List<Object> events);
+    }
+
+    private final DeliveryShardRouter router;
+    private final Shard[] shards;
+    private final Function<UUID, Optional<Delivery>> loader;
+    private final ChangeSink changeSink;
+
+    public ShardedDeliveryStore(int shardCount) {
+        this(shardCount, deliveryId -> Optional.empty(), ChangeSink.NONE);
+    }
+
+    // loader é chamado na thread do shard quando a entrega não está em memória
+    public ShardedDeliveryStore(int shardCount, Function<UUID, Optional<Delivery>> loader, ChangeSink changeSink) {
+        this.router = new DeliveryShardRouter(shardCount);
+        this.loader = loader;
+        this.changeSink = changeSink;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    public int shardOf(UUID deliveryId) {
+        return router.shardOf(deliveryId);
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    // Entrega o agregado ao shard dono; quem chama não deve mais usá-lo
+    public CompletableFuture<DeliverySnapshot> register(Delivery delivery) {
+        Shard shard = shardFor(delivery.getId());
+        return CompletableFuture.supplyAsync(() -> {
+            shard.deliveries.put(delivery.getId(), delivery);
+            return shard.flush(delivery);
+        }, shard.executor);
+    }
+
+    public CompletableFuture<Optional<DeliverySnapshot>> find(UUID deliveryId) {
+        Shard shard = shardFor(deliveryId);
+        return CompletableFuture.supplyAsync(() -> shard.lookup(deliveryId).map(Delivery::snapshot), shard.executor);
+    }
+
+    // Executa action na thread do shard dono da entrega e devolve o snapshot resultante
+    public CompletableFuture<DeliverySnapshot> update(UUID deliveryId, Consumer<Delivery> action) {
+        Shard shard = shardFor(deliveryId);
+        return CompletableFuture.supplyAsync(() -> {
+            Delivery delivery = shard.require(deliveryId);
+            try {
+                action.accept(delivery);
+            } catch (RuntimeException e) {
+                shard.discard(delivery);
+                throw e;
+            }
+            return shard.flush(delivery);
+        }, shard.executor);
+    }
+
+    // Como update, mas devolve o resultado de action (ex.: o id de um item adicionado)
+    public <T> CompletableFuture<T> execute(UUID deliveryId, Function<Delivery, T> action) {
+        Shard shard = shardFor(deliveryId);
+        return CompletableFuture.supplyAsync(() -> {
+            Delivery delivery = shard.require(deliveryId);
+            T result;
+            try {
+                result = action.apply(delivery);
+            } catch (RuntimeException e) {
+                shard.discard(delivery);
+                throw e;
+            }
+            shard.flush(delivery);
+            return result;
+        }, shard.executor);
+    }
+
+    public CompletableFuture<DeliverySnapshot> place(UUID deliveryId) {
+        return update(deliveryId, Delivery::place);
+    }
+
+    public CompletableFuture<DeliverySnapshot> pickUp(UUID deliveryId, UUID courierId) {
+        return update(deliveryId, delivery -> delivery.pickUp(courierId));
+    }
+
+    public CompletableFuture<DeliverySnapshot> complete(UUID deliveryId) {
+        return update(deliveryId, Delivery::markAsDelivery);
+    }
+
+    // Remove da memória; a próxima operação passa pelo loader
+    public CompletableFuture<Boolean> evict(UUID deliveryId) {
+        Shard shard = shardFor(deliveryId);
+        return CompletableFuture.supplyAsync(() -> shard.deliveries.remove(deliveryId) != null, shard.executor);
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+        try {
+            for (Shard shard : shards) {
+                shard.executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Shard shardFor(UUID deliveryId) {
+        return shards[router.shardOf(deliveryId)];
+    }
+
+    private final class Shard {
+
+        private final ExecutorService executor;
+
+        // Acessado só pela thread do shard
+        private final Map<UUID, Delivery> deliveries = new HashMap<>();
+
+        private Shard(int index) {
+            this.executor = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("delivery-shard-" + index).daemon().factory());
+        }
+
+        private Delivery require(UUID deliveryId) {
+            return lookup(deliveryId).orElseThrow(() -> new DeliveryNotFoundException(deliveryId));
+        }
+
+        private Optional<Delivery> lookup(UUID deliveryId) {
+            Delivery delivery = deliveries.get(deliveryId);
+            if (delivery != null) {
+                return Optional.of(delivery);
+            }
+            Optional<Delivery> loaded = loader.apply(deliveryId);
+            loaded.ifPresent(found -> deliveries.put(deliveryId, found));
+            return loaded;
+        }
+
+        // Sem o Spring Data para publicar e limpar os eventos, o shard repassa mudanças e eventos ao sink
+        private DeliverySnapshot flush(Delivery delivery) {
+            List<Object> events = List.copyOf(delivery.domainEvents());
+            delivery.clearDomainEvents();
+            List<DeliveryChange> changes = delivery.pullChanges();
+            if (!changes.isEmpty() || !events.isEmpty()) {
+                changeSink.accept(delivery.getId(), changes, events);
+            }
+            return delivery.snapshot();
+        }
+
+        // A ação falhou: nada do que ela registrou vai ao sink. Se chegou a alterar o agregado,
+        // ele sai da memória e a próxima operação recarrega o estado pelo loader
+        private void discard(Delivery delivery) {
+            delivery.clearDomainEvents();
+            if (!delivery.pullChanges().isEmpty()) {
+                deliveries.remove(delivery.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TrackingStreamProperties.class)
+public class TrackingStreamConfig {
+
+    @Bean(destroyMethod = "close")
+    public TrackingStreamHub trackingStreamHub(TrackingStreamProperties properties) {
+        return new TrackingStreamHub(properties.getBufferSize());
+    }
+}
@@ -0,0 +1,112 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Distribui as atualizações de status aos assinantes de uma entrega ou de um entregador.
+// publish só enfileira nos buffers; os envios rodam em virtual threads, uma por assinante
+// com envio pendente, então conexões ociosas não ocupam thread nenhuma.
+public class TrackingStreamHub implements MeterBinder, AutoCloseable {
+
+    private final Map<UUID, Set<TrackingSubscription>> byDelivery = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<TrackingSubscription>> byCourier = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final int bufferSize;
+
+    public TrackingStreamHub(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public TrackingSubscription subscribeToDelivery(UUID deliveryId, TrackingSubscription.Sink sink) {
+        return subscribe(byDelivery, deliveryId, sink, true);
+    }
+
+    public TrackingSubscription subscribeToCourier(UUID courierId, TrackingSubscription.Sink sink) {
+        return subscribe(byCourier, courierId, sink, false);
+    }
+
+    // Envia a um único assinante (ex.: o status atual logo após a assinatura)
+    public void send(TrackingSubscription subscription, TrackingUpdate update) {
+        offer(subscription, update);
+    }
+
+    public void publish(TrackingUpdate update) {
+        fanOut(byDelivery.get(update.deliveryId()), update);
+        if (update.courierId() != null) {
+            fanOut(byCourier.get(update.courierId()), update);
+        }
+    }
+
+    public int subscribers() {
+        return subscribers.get();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("delivery.tracking.subscribers", subscribers, AtomicInteger::get)
+                .description("Assinantes conectados ao stream de rastreamento")
+                .register(registry);
+        FunctionCounter.builder("delivery.tracking.dropped", dropped, LongAdder::sum)
+                .description("Atualizações descartadas por assinantes lentos")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        byDelivery.values().forEach(set -> set.forEach(TrackingSubscription::close));
+        byCourier.values().forEach(set -> set.forEach(TrackingSubscription::close));
+        senders.shutdownNow();
+    }
+
+    private TrackingSubscription subscribe(Map<UUID, Set<TrackingSubscription>> registry, UUID key,
+                                           TrackingSubscription.Sink sink, boolean ordered) {
+        TrackingSubscription[] holder = new TrackingSubscription[1];
+        TrackingSubscription subscription = new TrackingSubscription(sink, bufferSize, dropped::increment, () -> {
+            registry.computeIfPresent(key, (id, set) -> {
+                set.remove(holder[0]);
+                return set.isEmpty() ? null : set;
+            });
+            subscribers.decrementAndGet();
+        }, ordered);
+        holder[0] = subscription;
+        registry.compute(key, (id, set) -> {
+            Set<TrackingSubscription> subscriptions = set == null ? ConcurrentHashMap.newKeySet() : set;
+            subscriptions.add(subscription);
+            return subscriptions;
+        });
+        subscribers.incrementAndGet();
+        return subscription;
+    }
+
+    private void fanOut(Set<TrackingSubscription> subscriptions, TrackingUpdate update) {
+        if (subscriptions == null) {
+            return;
+        }
+        for (TrackingSubscription subscription : subscriptions) {
+            offer(subscription, update);
+        }
+    }
+
+    private void offer(TrackingSubscription subscription, TrackingUpdate update) {
+        if (subscription.offer(update)) {
+            senders.execute(subscription::drain);
+        }
+    }
+}
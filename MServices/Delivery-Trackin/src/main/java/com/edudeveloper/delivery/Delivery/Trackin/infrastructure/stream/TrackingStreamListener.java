@@ -0,0 +1,35 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryFulfilledEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPickUpEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPlacedEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Repassa as transições confirmadas ao hub; publicar só enfileira, então o commit não espera pelos clientes
+@Component
+@RequiredArgsConstructor
+public class TrackingStreamListener {
+
+    private final TrackingStreamHub trackingStreamHub;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryPlacedEvent event) {
+        trackingStreamHub.publish(new TrackingUpdate(event.getDeliveryId(), DeliveryStatus.WAITING_FOR_COURIER,
+                null, event.getOccurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryPickUpEvent event) {
+        trackingStreamHub.publish(new TrackingUpdate(event.getDeliveryId(), DeliveryStatus.IN_TRANSIT,
+                event.getCourierId(), event.getOccurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(DeliveryFulfilledEvent event) {
+        trackingStreamHub.publish(new TrackingUpdate(event.getDeliveryId(), DeliveryStatus.DELIVERY,
+                event.getCourierId(), event.getOccurredAt()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "delivery.tracking.stream")
+public class TrackingStreamProperties {
+
+    // Atualizações retidas por assinante lento; acima disso as mais antigas são descartadas
+    private int bufferSize = 16;
+
+    // Conexões SSE são encerradas depois desse tempo e o cliente reconecta
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,113 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+
+// Um assinante do stream: buffer limitado que descarta o mais antigo quando cheio.
+// Quem publica só enfileira; o envio acontece em drain(), fora do caminho da transição,
+// e no máximo um drain por assinante roda por vez, preservando a ordem.
+// Assinaturas ordenadas (uma única entrega) ignoram atualizações que não sejam mais novas
+// que a última aceita, para o status atual lido após assinar não regredir o cliente.
+public class TrackingSubscription {
+
+    private static final Comparator<TrackingUpdate> RECENCY = Comparator
+            .comparing(TrackingUpdate::occurredAt, Comparator.nullsFirst(Comparator.<OffsetDateTime>naturalOrder()))
+            .thenComparing(TrackingUpdate::status);
+
+    // Envio efetivo ao cliente (ex.: SseEmitter); pode bloquear no I/O
+    @FunctionalInterface
+    public interface Sink {
+        void send(TrackingUpdate update) throws Exception;
+    }
+
+    private final Sink sink;
+    private final int capacity;
+    private final ArrayDeque<TrackingUpdate> buffer;
+    private final Runnable onDrop;
+    private final Runnable onClose;
+    private final boolean ordered;
+
+    private TrackingUpdate last;
+    private boolean draining;
+    private boolean closed;
+    private long dropped;
+
+    TrackingSubscription(Sink sink, int capacity, Runnable onDrop, Runnable onClose) {
+        this(sink, capacity, onDrop, onClose, false);
+    }
+
+    TrackingSubscription(Sink sink, int capacity, Runnable onDrop, Runnable onClose, boolean ordered) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("O buffer do assinante precisa ter capacidade positiva");
+        }
+        this.sink = sink;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(capacity);
+        this.onDrop = onDrop;
+        this.onClose = onClose;
+        this.ordered = ordered;
+    }
+
+    // Enfileira sem bloquear; retorna true quando cabe a quem chamou agendar o drain
+    synchronized boolean offer(TrackingUpdate update) {
+        if (closed) {
+            return false;
+        }
+        if (ordered) {
+            if (last != null && RECENCY.compare(update, last) <= 0) {
+                return false;
+            }
+            last = update;
+        }
+        if (buffer.size() == capacity) {
+            buffer.pollFirst();
+            dropped++;
+            onDrop.run();
+        }
+        buffer.addLast(update);
+        if (draining) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    void drain() {
+        while (true) {
+            TrackingUpdate next;
+            synchronized (this) {
+                next = closed ? null : buffer.pollFirst();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                sink.send(next);
+            } catch (Exception e) {
+                close();
+                return;
+            }
+        }
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.clear();
+        }
+        onClose.run();
+    }
+
+    public synchronized long dropped() {
+        return dropped;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,13 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Evento enviado aos assinantes do stream de rastreamento
+public record TrackingUpdate(UUID deliveryId,
+                             DeliveryStatus status,
+                             UUID courierId,
+                             OffsetDateTime occurredAt) {
+}
@@ -0,0 +1,39 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+// Pool de buffers diretos de tamanho fixo para codificar e decodificar quadros de eventos sem alocar
+// por lote. Com o pool vazio acquire aloca um buffer novo; release descarta o que passar de maxPooled.
+public class ByteBufferPool {
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<ByteBuffer> buffers;
+
+    public ByteBufferPool(int bufferSize, int maxPooled) {
+        if (bufferSize <= 0 || maxPooled <= 0) {
+            throw new IllegalArgumentException("Pool inválido: tamanho do buffer e limite precisam ser positivos");
+        }
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() == bufferSize && buffer.isDirect()) {
+            buffers.offer(buffer.clear());
+        }
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    public int pooled() {
+        return buffers.size();
+    }
+}
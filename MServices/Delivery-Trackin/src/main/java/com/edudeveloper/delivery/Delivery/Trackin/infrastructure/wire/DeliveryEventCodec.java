@@ -0,0 +1,110 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Formato binário dos lotes de eventos de entrega, o mesmo lido pelo Courier-Management.
+// Quadro: versão (1 byte), quantidade de eventos (varint) e os eventos em registros de tamanho fixo:
+//   0 tipo (ordinal) | 1 status (ordinal, 0xFF = sem status) | 2 flags | 3 reservado
+//   4 deliveryId (2 longs) | 20 courierId (2 longs, zeros se ausente) | 36 occurredAt | 44 referenceAt (epoch millis)
+// O tamanho fixo deixa o DeliveryEventFlyweight ir direto ao i-ésimo evento sem decodificar os anteriores.
+public final class DeliveryEventCodec {
+
+    public static final byte VERSION = 1;
+    public static final int RECORD_SIZE = 52;
+
+    static final int TYPE = 0;
+    static final int STATUS = 1;
+    static final int FLAGS = 2;
+    static final int DELIVERY_ID = 4;
+    static final int COURIER_ID = 20;
+    static final int OCCURRED_AT = 36;
+    static final int REFERENCE_AT = 44;
+
+    static final byte NO_STATUS = (byte) 0xFF;
+    static final int HAS_COURIER = 1;
+    static final int HAS_REFERENCE_AT = 1 << 1;
+
+    private DeliveryEventCodec() {
+    }
+
+    public static int frameSize(int count) {
+        return 1 + varintSize(count) + count * RECORD_SIZE;
+    }
+
+    // Escreve o quadro a partir da posição atual de target e avança a posição até o fim dele
+    public static void encode(List<DeliveryEventMessage> messages, ByteBuffer target) {
+        int size = frameSize(messages.size());
+        if (target.remaining() < size) {
+            throw new IllegalArgumentException(
+                    "Buffer pequeno para " + messages.size() + " eventos: " + size + " bytes, restam " + target.remaining());
+        }
+        target.put(VERSION);
+        writeVarint(target, messages.size());
+        for (DeliveryEventMessage message : messages) {
+            int offset = target.position();
+            int flags = (message.courierId() != null ? HAS_COURIER : 0)
+                    | (message.referenceAt() != null ? HAS_REFERENCE_AT : 0);
+            target.put(offset + TYPE, (byte) message.type().ordinal());
+            target.put(offset + STATUS, message.status() != null ? (byte) message.status().ordinal() : NO_STATUS);
+            target.put(offset + FLAGS, (byte) flags);
+            target.put(offset + FLAGS + 1, (byte) 0);
+            putUuid(target, offset + DELIVERY_ID, message.deliveryId());
+            putUuid(target, offset + COURIER_ID, message.courierId());
+            target.putLong(offset + OCCURRED_AT, message.occurredAt().toEpochMilli());
+            target.putLong(offset + REFERENCE_AT, message.referenceAt() != null ? message.referenceAt().toEpochMilli() : 0L);
+            target.position(offset + RECORD_SIZE);
+        }
+    }
+
+    // Materializa o lote inteiro; para ler sem alocar por evento use o DeliveryEventFlyweight
+    public static List<DeliveryEventMessage> decode(ByteBuffer source) {
+        DeliveryEventFlyweight event = new DeliveryEventFlyweight().wrap(source);
+        List<DeliveryEventMessage> messages = new ArrayList<>(event.count());
+        while (event.next()) {
+            messages.add(event.toMessage());
+        }
+        source.position(source.position() + event.frameSize());
+        return messages;
+    }
+
+    static void writeVarint(ByteBuffer target, int value) {
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    // Lê o varint em index; devolve o valor nos 32 bits baixos e a quantidade de bytes nos altos
+    static long readVarint(ByteBuffer source, int index) {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            if (index + i >= source.limit()) {
+                throw new IllegalArgumentException("Quadro de eventos truncado no contador");
+            }
+            byte b = source.get(index + i);
+            value |= (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                return ((long) (i + 1) << 32) | (value & 0xFFFFFFFFL);
+            }
+        }
+        throw new IllegalArgumentException("Contador de eventos inválido");
+    }
+
+    static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void putUuid(ByteBuffer target, int index, UUID value) {
+        target.putLong(index, value != null ? value.getMostSignificantBits() : 0L);
+        target.putLong(index + Long.BYTES, value != null ? value.getLeastSignificantBits() : 0L);
+    }
+}
@@ -0,0 +1,43 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryFulfilledEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryLateEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPickUpEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPlacedEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryUnassignedTooLongEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Evento de entrega como vai para o fio. courierId, status e referenceAt são opcionais;
+// referenceAt é o prazo previsto (PLACED, LATE) ou o momento da postagem (UNASSIGNED_TOO_LONG).
+// Os instantes trafegam em epoch millis.
+public record DeliveryEventMessage(DeliveryEventType type,
+                                   UUID deliveryId,
+                                   UUID courierId,
+                                   DeliveryStatus status,
+                                   Instant occurredAt,
+                                   Instant referenceAt) {
+
+    public static DeliveryEventMessage from(Object event) {
+        return switch (event) {
+            case DeliveryPlacedEvent e -> new DeliveryEventMessage(DeliveryEventType.PLACED, e.getDeliveryId(), null,
+                    DeliveryStatus.WAITING_FOR_COURIER, e.getOccurredAt().toInstant(), instantOf(e.getExpectedDeliveryAt()));
+            case DeliveryPickUpEvent e -> new DeliveryEventMessage(DeliveryEventType.PICKED_UP, e.getDeliveryId(), e.getCourierId(),
+                    DeliveryStatus.IN_TRANSIT, e.getOccurredAt().toInstant(), null);
+            case DeliveryFulfilledEvent e -> new DeliveryEventMessage(DeliveryEventType.FULFILLED, e.getDeliveryId(), e.getCourierId(),
+                    DeliveryStatus.DELIVERY, e.getOccurredAt().toInstant(), null);
+            case DeliveryLateEvent e -> new DeliveryEventMessage(DeliveryEventType.LATE, e.getDeliveryId(), null,
+                    null, e.getOccurredAt().toInstant(), instantOf(e.getExpectedDeliveryAt()));
+            case DeliveryUnassignedTooLongEvent e -> new DeliveryEventMessage(DeliveryEventType.UNASSIGNED_TOO_LONG, e.getDeliveryId(), null,
+                    DeliveryStatus.WAITING_FOR_COURIER, e.getOccurredAt().toInstant(), instantOf(e.getPlacedAt()));
+            default -> throw new IllegalArgumentException("Evento sem formato binário: " + event.getClass().getSimpleName());
+        };
+    }
+
+    private static Instant instantOf(OffsetDateTime value) {
+        return value != null ? value.toInstant() : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire;
+
+// Tipos de evento trocados com o Courier-Management. O ordinal vai no fio: só acrescentar no fim.
+public enum DeliveryEventType {
+    PLACED,
+    PICKED_UP,
+    FULFILLED,
+    LATE,
+    UNASSIGNED_TOO_LONG
+}
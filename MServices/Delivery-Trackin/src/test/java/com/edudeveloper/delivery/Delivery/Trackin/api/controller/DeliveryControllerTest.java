@@ -0,0 +1,122 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DeliveryControllerTest {
+
+    private static final String DELIVERY_INPUT = """
+            {
+              "sender": {"zipCode": "01234-000", "street": "Rua A", "number": "123",
+                         "name": "João Silva", "phone": "11999999999"},
+              "recipient": {"zipCode": "04567-000", "street": "Rua B", "number": "456",
+                            "name": "Maria Santos", "phone": "11888888888"},
+              "items": [{"name": "Caixa", "quantity": 2}]
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldRunTheWholeDeliveryLifecycle() throws Exception {
+        // Given
+        UUID deliveryId = draft();
+
+        // When
+        String item = mockMvc.perform(post("/api/v1/deliveries/{id}/items", deliveryId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Envelope\", \"quantity\": 1}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        UUID itemId = UUID.fromString(objectMapper.readTree(item).get("id").asText());
+
+        mockMvc.perform(put("/api/v1/deliveries/{id}/items/{itemId}/quantity", deliveryId, itemId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 3}"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/deliveries/{id}/placement", deliveryId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/deliveries/{id}/pickups", deliveryId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"courierId\": \"" + UUID.randomUUID() + "\"}"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/deliveries/{id}/completion", deliveryId))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/v1/deliveries/{id}", deliveryId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DELIVERY"))
+                .andExpect(jsonPath("$.totalItems").value(5))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.fulfilledAt").isNotEmpty());
+    }
+
+    @Test
+    void shouldPriceTheDraftFromTheZipCodes() throws Exception {
+        mockMvc.perform(post("/api/v1/deliveries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(DELIVERY_INPUT))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("DRAFT"))
+                .andExpect(jsonPath("$.distanceFee").value(17.60))
+                .andExpect(jsonPath("$.courierPayout").value(11.40))
+                .andExpect(jsonPath("$.totalCost").value(29.00))
+                .andExpect(jsonPath("$.items[0].name").value("Caixa"));
+    }
+
+    @Test
+    void shouldRejectEditingAfterPlacement() throws Exception {
+        // Given
+        UUID deliveryId = draft();
+        mockMvc.perform(post("/api/v1/deliveries/{id}/placement", deliveryId))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(put("/api/v1/deliveries/{id}", deliveryId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(DELIVERY_INPUT))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/api/v1/deliveries/{id}/completion", deliveryId))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.title").value("Operação não permitida"));
+    }
+
+    @Test
+    void shouldAnswerNotFoundAndBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/deliveries/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/v1/deliveries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sender\": {}}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private UUID draft() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/deliveries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(DELIVERY_INPUT))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode delivery = objectMapper.readTree(response);
+        return UUID.fromString(delivery.get("id").asText());
+    }
+}
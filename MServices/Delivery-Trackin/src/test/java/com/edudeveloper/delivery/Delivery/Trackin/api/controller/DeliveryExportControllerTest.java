@@ -0,0 +1,139 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryRepository;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingProjector;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DeliveryExportControllerTest {
+
+    private static final Instant DAY = Instant.parse("2031-03-10T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private DeliveryTrackingRepository deliveryTrackingRepository;
+
+    @Autowired
+    private DeliveryTrackingProjector deliveryTrackingProjector;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<UUID> exportedIds = new ArrayList<>();
+    private final List<UUID> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 3 entregas com o mesmo fulfilledAt (desempate pelo id entre páginas), 2 mais tarde e 1 fora do período
+        for (int i = 0; i < 3; i++) {
+            exportedIds.add(fulfilledAt(DAY.plus(Duration.ofHours(10))));
+        }
+        // No empate a ordem é a do id; UUIDv7 gerados em sequência são crescentes
+        exportedIds.add(fulfilledAt(DAY.plus(Duration.ofHours(11))));
+        exportedIds.add(fulfilledAt(DAY.plus(Duration.ofHours(12))));
+        fulfilledAt(DAY.plus(Duration.ofDays(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        DomainContext.reset();
+        deliveryTrackingRepository.deleteAllById(createdIds);
+        deliveryRepository.deleteAllById(createdIds);
+    }
+
+    @Test
+    void shouldStreamCsvInKeysetOrderWithoutDuplicatesAcrossPages() throws Exception {
+        // When
+        String csv = export("text/csv");
+
+        // Then
+        List<String> lines = csv.lines().toList();
+        assertEquals("id,courierId,fulfilledAt,distanceFee,courierPayout,totalCost", lines.getFirst());
+        List<UUID> ids = lines.stream().skip(1).map(line -> UUID.fromString(line.split(",")[0])).toList();
+        assertEquals(exportedIds, ids);
+        assertTrue(lines.get(1).endsWith(",10.00,15.00,25.00"));
+    }
+
+    @Test
+    void shouldStreamNdjson() throws Exception {
+        // When
+        String ndjson = export(DeliveryImportController.APPLICATION_NDJSON);
+
+        // Then
+        List<String> lines = ndjson.lines().toList();
+        assertEquals(5, lines.size());
+        assertTrue(lines.getFirst().startsWith("{\"id\":\"" + exportedIds.getFirst() + "\""));
+        assertTrue(lines.getFirst().contains("\"totalCost\":25.00"));
+    }
+
+    private String export(String mediaType) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/deliveries/exports/fulfilled")
+                        .accept(mediaType)
+                        .param("from", DAY.toString())
+                        .param("to", DAY.plus(Duration.ofDays(1)).toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", startsWith("attachment")))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private UUID fulfilledAt(Instant fulfilledAt) {
+        DomainContext.use(Clock.fixed(fulfilledAt, ZoneOffset.UTC));
+        Delivery delivery = Delivery.draft();
+        delivery.addItem("Produto", 1);
+        delivery.editPreparationDetails(Delivery.PreparationDetails.builder()
+                .sender(ContactPoint.builder().name("João Silva").zipCode("01234-567").build())
+                .recipient(ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build())
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build());
+        delivery.place();
+        delivery.pickUp(UUID.randomUUID());
+        delivery.markAsDelivery();
+        // Grava com a projeção, como os serviços: os demais testes do contexto contam com entrega = rastreamento
+        transactionTemplate.executeWithoutResult(status -> {
+            deliveryRepository.save(delivery);
+            deliveryTrackingProjector.projectNew(List.of(delivery));
+        });
+        createdIds.add(delivery.getId());
+        return delivery.getId();
+    }
+}
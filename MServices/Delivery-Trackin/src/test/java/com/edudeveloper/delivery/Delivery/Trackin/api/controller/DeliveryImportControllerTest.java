@@ -0,0 +1,124 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryRepository;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DeliveryImportControllerTest {
+
+    private static final String VALID = """
+            {"sender": {"zipCode": "01234-000", "street": "Rua A", "number": "1", "name": "Loja", "phone": "1199"},
+             "recipient": {"zipCode": "04567-000", "street": "Rua B", "number": "2", "name": "Cliente", "phone": "1188"},
+             "items": [{"name": "Caixa", "quantity": 2}, {"name": "Envelope", "quantity": 1}]}""";
+
+    private static final String MISSING_RECIPIENT = """
+            {"sender": {"zipCode": "01234-000", "street": "Rua A", "number": "1", "name": "Loja", "phone": "1199"}}""";
+
+    private static final String UNKNOWN_ROUTE = VALID.replace("04567-000", "99999-000");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private DeliveryTrackingRepository deliveryTrackingRepository;
+
+    private long deliveriesBefore;
+
+    @BeforeEach
+    void setUp() {
+        deliveriesBefore = deliveryRepository.count();
+    }
+
+    @Test
+    void shouldImportJsonArrayInBatchesAndReportInvalidRecords() throws Exception {
+        // Given - 5 válidos (3 lotes de 2) e 3 inválidos
+        String body = "[" + String.join(",", VALID, MISSING_RECIPIENT, VALID, VALID,
+                "{\"sender\": \"texto\"}", VALID, UNKNOWN_ROUTE, VALID) + "]";
+
+        // Then
+        mockMvc.perform(post("/api/v1/deliveries/imports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(5))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[1].index").value(4))
+                .andExpect(jsonPath("$.errors[2].index").value(6));
+        assertEquals(deliveriesBefore + 5, deliveryRepository.count());
+    }
+
+    @Test
+    void shouldKeepRecordsReadBeforeMalformedJson() throws Exception {
+        mockMvc.perform(post("/api/v1/deliveries/imports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + VALID + "," + VALID + ", {\"sender\": "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].index").value(2));
+    }
+
+    @Test
+    void shouldRejectNonObjectElementsAndKeepReading() throws Exception {
+        mockMvc.perform(post("/api/v1/deliveries/imports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + String.join(",", VALID, "42", "[" + VALID + "]", "null", VALID) + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[1].index").value(2))
+                .andExpect(jsonPath("$.errors[2].index").value(3));
+        assertEquals(deliveriesBefore + 2, deliveryRepository.count());
+    }
+
+    @Test
+    void shouldReportMissingClosingBracket() throws Exception {
+        mockMvc.perform(post("/api/v1/deliveries/imports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + VALID + "," + VALID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].index").value(2));
+    }
+
+    @Test
+    void shouldImportNdjsonSkippingMalformedLines() throws Exception {
+        // Given
+        String body = String.join("\n",
+                VALID.replace("\n", ""),
+                "{nao e json",
+                "",
+                VALID.replace("\n", ""),
+                VALID.replace("\n", ""));
+
+        // Then
+        mockMvc.perform(post("/api/v1/deliveries/imports")
+                        .contentType(DeliveryImportController.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].index").value(1));
+        assertEquals(deliveriesBefore + 3, deliveryRepository.count());
+        assertEquals(deliveryRepository.count(), deliveryTrackingRepository.count());
+    }
+}
@@ -0,0 +1,120 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryCheckpointService;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryPreparationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DeliveryTrackingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeliveryPreparationService deliveryPreparationService;
+
+    @Autowired
+    private DeliveryCheckpointService deliveryCheckpointService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldServeTheTrackingOfADeliveryWithoutLoadingTheAggregate() throws Exception {
+        // Given
+        UUID deliveryId = placedDelivery();
+        long aggregateLoads = statistics.getEntityStatistics(Delivery.class.getName()).getLoadCount();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/deliveries/{id}/tracking", deliveryId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(deliveryId.toString()))
+                .andExpect(jsonPath("$.status").value("WAITING_FOR_COURIER"))
+                .andExpect(jsonPath("$.placedAt").isNotEmpty())
+                .andExpect(jsonPath("$.items").doesNotExist());
+        assertEquals(aggregateLoads, statistics.getEntityStatistics(Delivery.class.getName()).getLoadCount());
+    }
+
+    @Test
+    void shouldListTheDeliveriesOfACourierByStatus() throws Exception {
+        // Given
+        UUID courierId = UUID.randomUUID();
+        UUID inTransit = placedDelivery();
+        deliveryCheckpointService.pickUp(inTransit, courierId);
+        UUID fulfilled = placedDelivery();
+        deliveryCheckpointService.pickUp(fulfilled, courierId);
+        deliveryCheckpointService.complete(fulfilled);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/couriers/{id}/tracking", courierId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false));
+        mockMvc.perform(get("/api/v1/couriers/{id}/tracking", courierId).param("status", "IN_TRANSIT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(inTransit.toString()))
+                .andExpect(jsonPath("$.content[0].courierId").value(courierId.toString()));
+    }
+
+    @Test
+    void shouldPageDeliveriesByStatus() throws Exception {
+        // Given
+        placedDelivery();
+        placedDelivery();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/deliveries/tracking")
+                        .param("status", "WAITING_FOR_COURIER")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[*].status", everyItem(is("WAITING_FOR_COURIER"))))
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownDeliveries() throws Exception {
+        mockMvc.perform(get("/api/v1/deliveries/{id}/tracking", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private UUID placedDelivery() {
+        UUID deliveryId = deliveryPreparationService.draft(
+                ContactPoint.builder().name("João Silva").zipCode("01234-567").build(),
+                ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build(),
+                List.of(new Delivery.NewItem("Caixa", 2))).getId();
+        deliveryCheckpointService.place(deliveryId);
+        return deliveryId;
+    }
+}
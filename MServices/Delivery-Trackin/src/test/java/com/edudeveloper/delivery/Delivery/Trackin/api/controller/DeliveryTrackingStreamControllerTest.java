@@ -0,0 +1,92 @@
+package com.edudeveloper.delivery.Delivery.Trackin.api.controller;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryCheckpointService;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryPreparationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DeliveryTrackingStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeliveryPreparationService deliveryPreparationService;
+
+    @Autowired
+    private DeliveryCheckpointService deliveryCheckpointService;
+
+    @Test
+    void shouldStreamTheCurrentStatusAndThenEachTransition() throws Exception {
+        // Given
+        UUID deliveryId = placedDelivery();
+        UUID courierId = UUID.randomUUID();
+        MockHttpServletResponse deliveryStream = open("/api/v1/deliveries/{id}/tracking/stream", deliveryId);
+        MockHttpServletResponse courierStream = open("/api/v1/couriers/{id}/tracking/stream", courierId);
+
+        // When
+        deliveryCheckpointService.pickUp(deliveryId, courierId);
+        deliveryCheckpointService.complete(deliveryId);
+
+        // Then
+        String deliveryEvents = awaitContent(deliveryStream, "\"DELIVERY\"");
+        assertTrue(deliveryEvents.startsWith("event:status"));
+        assertTrue(deliveryEvents.indexOf("WAITING_FOR_COURIER") < deliveryEvents.indexOf("IN_TRANSIT"));
+        assertTrue(deliveryEvents.indexOf("IN_TRANSIT") < deliveryEvents.indexOf("\"DELIVERY\""));
+        String courierEvents = awaitContent(courierStream, "\"DELIVERY\"");
+        assertFalse(courierEvents.contains("WAITING_FOR_COURIER"));
+        assertTrue(courierEvents.contains(deliveryId.toString()));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownDeliveries() throws Exception {
+        mockMvc.perform(get("/api/v1/deliveries/{id}/tracking/stream", UUID.randomUUID())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+    }
+
+    private MockHttpServletResponse open(String path, UUID id) throws Exception {
+        return mockMvc.perform(get(path, id).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private UUID placedDelivery() {
+        UUID deliveryId = deliveryPreparationService.draft(
+                ContactPoint.builder().name("João Silva").zipCode("01234-567").build(),
+                ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build(),
+                List.of(new Delivery.NewItem("Caixa", 2))).getId();
+        deliveryCheckpointService.place(deliveryId);
+        return deliveryId;
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!response.getContentAsString().contains(expected)) {
+            if (System.nanoTime() > deadline) {
+                fail("Evento não recebido: " + expected + " em " + response.getContentAsString());
+            }
+            Thread.sleep(10);
+        }
+        return response.getContentAsString();
+    }
+}
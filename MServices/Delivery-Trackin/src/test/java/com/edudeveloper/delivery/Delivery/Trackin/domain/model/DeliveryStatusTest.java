@@ -0,0 +1,39 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.InvalidStatusTransitionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryStatusTest {
+
+    @Test
+    void shouldAllowOnlyForwardTransitions() {
+        assertTrue(DeliveryStatus.DRAFT.canChangeTo(DeliveryStatus.WAITING_FOR_COURIER));
+        assertTrue(DeliveryStatus.WAITING_FOR_COURIER.canChangeTo(DeliveryStatus.IN_TRANSIT));
+        assertTrue(DeliveryStatus.IN_TRANSIT.canChangeTo(DeliveryStatus.DELIVERY));
+
+        assertTrue(DeliveryStatus.DRAFT.canNotCahngeTo(DeliveryStatus.IN_TRANSIT));
+        assertTrue(DeliveryStatus.DRAFT.canNotCahngeTo(DeliveryStatus.DELIVERY));
+        assertTrue(DeliveryStatus.DRAFT.canNotCahngeTo(DeliveryStatus.DRAFT));
+        assertTrue(DeliveryStatus.WAITING_FOR_COURIER.canNotCahngeTo(DeliveryStatus.DELIVERY));
+        assertTrue(DeliveryStatus.DELIVERY.canNotCahngeTo(DeliveryStatus.IN_TRANSIT));
+        assertTrue(DeliveryStatus.DELIVERY.canNotCahngeTo(DeliveryStatus.DRAFT));
+    }
+
+    @Test
+    void shouldReuseTransitionExceptionWithoutStackTrace() {
+        // When
+        InvalidStatusTransitionException first =
+                InvalidStatusTransitionException.of(DeliveryStatus.DRAFT, DeliveryStatus.DELIVERY);
+        InvalidStatusTransitionException second =
+                InvalidStatusTransitionException.of(DeliveryStatus.DRAFT, DeliveryStatus.DELIVERY);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals(DeliveryStatus.DRAFT, first.getFrom());
+        assertEquals(DeliveryStatus.DELIVERY, first.getTo());
+        assertEquals("Não é possível alterar o status da entrega de DRAFT para DELIVERY ! ", first.getMessage());
+    }
+}
@@ -1,12 +1,13 @@
 package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
 
 import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
-import java.time.Duration;
-import java.time.OffsetDateTime;
+import java.time.*;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,6 +44,11 @@ class DeliveryTest {
                 .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        DomainContext.reset();
+    }
+
     @Test
     void shouldCreateDraftDelivery() {
         // When
@@ -567,6 +573,216 @@ class DeliveryTest {
         assertNotEquals(item1Id, item2Id);
     }
 
+    @Test
+    void shouldKeepItemOrderAfterRemovingItemInTheMiddle() {
+        // Given
+        delivery.addItem("Primeiro", 1);
+        UUID item2Id = delivery.addItem("Segundo", 2);
+        delivery.addItem("Terceiro", 3);
+
+        // When
+        delivery.removeItem(item2Id);
+        delivery.addItem("Quarto", 4);
+
+        // Then
+        List<Item> items = delivery.getItems();
+        assertEquals(3, items.size());
+        assertEquals("Primeiro", items.get(0).getName());
+        assertEquals("Terceiro", items.get(1).getName());
+        assertEquals("Quarto", items.get(2).getName());
+        assertEquals(8, delivery.getTotalItems());
+    }
+
+    @Test
+    void shouldKeepTotalItemsConsistentWithManyItems() {
+        // Given
+        int itemCount = 5000;
+        UUID[] itemIds = new UUID[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            itemIds[i] = delivery.addItem("Produto " + i, 1);
+        }
+
+        // When
+        for (int i = 0; i < itemCount; i += 2) {
+            delivery.changeItemQuantity(itemIds[i], 3);
+        }
+        for (int i = 1; i < itemCount; i += 10) {
+            delivery.removeItem(itemIds[i]);
+        }
+
+        // Then
+        int expected = delivery.getItems().stream().mapToInt(Item::getQuantity).sum();
+        assertEquals(expected, delivery.getTotalItems());
+        assertEquals(itemCount - itemCount / 10, delivery.getItems().size());
+    }
+
+    @Test
+    void shouldApplyDraftChangesInOneCall() {
+        // Given
+        UUID keptItemId = delivery.addItem("Produto 1", 2);
+        UUID removedItemId = delivery.addItem("Produto 2", 1);
+
+        Delivery.DraftChanges changes = Delivery.DraftChanges.builder()
+                .removeItem(removedItemId)
+                .changeItemQuantity(keptItemId, 4)
+                .addItem("Produto 3", 3)
+                .addItem("Produto 4", 5)
+                .preparationDetails(Delivery.PreparationDetails.builder()
+                        .sender(sender)
+                        .recipient(recipient)
+                        .distanceFee(new BigDecimal("10.00"))
+                        .courierPayout(new BigDecimal("15.00"))
+                        .expectedDeliveryTime(Duration.ofHours(2))
+                        .build())
+                .build();
+
+        // When
+        List<UUID> addedItemIds = delivery.applyChanges(changes);
+
+        // Then
+        assertEquals(2, addedItemIds.size());
+        assertEquals(3, delivery.getItems().size());
+        assertEquals(12, delivery.getTotalItems());
+        assertEquals("Produto 1", delivery.getItems().get(0).getName());
+        assertEquals(addedItemIds.get(0), delivery.getItems().get(1).getId());
+        assertEquals(recipient, delivery.getRecipient());
+        assertEquals(new BigDecimal("25.00"), delivery.getTotalCost());
+    }
+
+    @Test
+    void shouldNotApplyAnyDraftChangeWhenOneIsInvalid() {
+        // Given
+        UUID removedItemId = delivery.addItem("Produto 1", 2);
+
+        Delivery.DraftChanges changes = Delivery.DraftChanges.builder()
+                .addItem("Produto 2", 3)
+                .removeItem(removedItemId)
+                .changeItemQuantity(removedItemId, 4)
+                .build();
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> delivery.applyChanges(changes));
+        assertEquals(1, delivery.getItems().size());
+        assertEquals(2, delivery.getTotalItems());
+    }
+
+    @Test
+    void shouldRejectNullQuantitiesAndItemsBeforeApplyingAnyChange() {
+        // Given
+        UUID removedItemId = delivery.addItem("Produto 1", 2);
+        UUID changedItemId = delivery.addItem("Produto 2", 1);
+        delivery.pullChanges();
+
+        Delivery.DraftChanges nullQuantity = Delivery.DraftChanges.builder()
+                .removeItem(removedItemId)
+                .changeItemQuantity(changedItemId, null)
+                .build();
+        Delivery.DraftChanges nullItem = Delivery.DraftChanges.builder()
+                .removeItem(removedItemId)
+                .itemToAdd(null)
+                .build();
+        Delivery.DraftChanges unnamedItem = Delivery.DraftChanges.builder()
+                .removeItem(removedItemId)
+                .addItem(null, 1)
+                .build();
+
+        // When & Then
+        assertThrows(DomainException.class, () -> delivery.applyChanges(nullQuantity));
+        assertThrows(DomainException.class, () -> delivery.applyChanges(nullItem));
+        assertThrows(DomainException.class, () -> delivery.applyChanges(unnamedItem));
+        assertEquals(2, delivery.getItems().size());
+        assertEquals(3, delivery.getTotalItems());
+        assertTrue(delivery.pullChanges().isEmpty());
+    }
+
+    @Test
+    void shouldNotApplyDraftChangesWhenNotDraft() {
+        // Given
+        setupDeliveryForPlacement();
+        delivery.place();
+
+        Delivery.DraftChanges changes = Delivery.DraftChanges.builder()
+                .addItem("Produto", 1)
+                .build();
+
+        // When & Then
+        assertThrows(DomainException.class, () -> delivery.applyChanges(changes));
+        assertTrue(delivery.getItems().isEmpty());
+    }
+
+    @Test
+    void shouldUseClockAndIdGeneratorFromDomainContext() {
+        // Given
+        Instant now = Instant.parse("2025-07-27T10:00:00Z");
+        UUID fixedId = UUID.fromString("0198a0b2-0000-7000-8000-000000000001");
+        DomainContext.use(Clock.fixed(now, ZoneOffset.UTC));
+        DomainContext.use(() -> fixedId);
+
+        // When
+        Delivery draft = Delivery.draft();
+        draft.editPreparationDetails(Delivery.PreparationDetails.builder()
+                .sender(sender)
+                .recipient(recipient)
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build());
+        draft.place();
+
+        // Then
+        assertEquals(fixedId, draft.getId());
+        assertEquals(OffsetDateTime.ofInstant(now, ZoneOffset.UTC), draft.getPlacedAt());
+        assertEquals(OffsetDateTime.ofInstant(now.plus(Duration.ofHours(2)), ZoneOffset.UTC), draft.getExpectedDeliveryAt());
+    }
+
+    @Test
+    void shouldRebuildTheSameStateByReplayingRecordedChanges() {
+        // Given
+        UUID keptItemId = delivery.addItem("Caixa", 2);
+        UUID removedItemId = delivery.addItem("Envelope", 1);
+        delivery.applyChanges(Delivery.DraftChanges.builder()
+                .removeItem(removedItemId)
+                .changeItemQuantity(keptItemId, 5)
+                .addItem("Pacote", 3)
+                .build());
+        setupDeliveryForPlacement();
+        delivery.place();
+        delivery.pickUp(courierId);
+        delivery.markAsDelivery();
+
+        // When
+        List<DeliveryChange> changes = delivery.pullChanges();
+        Delivery replayed = Delivery.replay(null, changes);
+
+        // Then
+        assertEquals(10, changes.size());
+        assertInstanceOf(DeliveryChange.Drafted.class, changes.getFirst());
+        assertEquals(10L, delivery.getVersion());
+        assertEquals(delivery.snapshot(), replayed.snapshot());
+        assertTrue(delivery.pullChanges().isEmpty());
+    }
+
+    @Test
+    void shouldReplayOnlyChangesAfterTheSnapshot() {
+        // Given
+        delivery.addItem("Caixa", 2);
+        setupDeliveryForPlacement();
+        delivery.pullChanges();
+        DeliverySnapshot snapshot = delivery.snapshot();
+        delivery.place();
+        delivery.pickUp(courierId);
+
+        // When
+        Delivery replayed = Delivery.replay(snapshot, delivery.pullChanges());
+
+        // Then
+        assertEquals(5L, replayed.getVersion());
+        assertEquals(DeliveryStatus.IN_TRANSIT, replayed.getStatus());
+        assertEquals(courierId, replayed.getCourierId());
+        assertEquals(delivery.snapshot(), replayed.snapshot());
+        assertTrue(replayed.domainEvents().isEmpty());
+    }
+
     private void setupDeliveryForPlacement() {
         delivery.editPreparationDetails(Delivery.PreparationDetails.builder()
                 .sender(sender)
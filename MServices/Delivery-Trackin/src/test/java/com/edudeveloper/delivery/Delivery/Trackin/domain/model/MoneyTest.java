@@ -0,0 +1,60 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertFromAndToBigDecimalWithoutLoss() {
+        // When
+        Money money = Money.of(new BigDecimal("25.50"));
+
+        // Then
+        assertEquals(2550, money.getMinorUnits());
+        assertEquals(Money.DEFAULT_CURRENCY, money.getCurrency());
+        assertEquals(new BigDecimal("25.50"), money.toBigDecimal());
+        assertEquals(Money.of(new BigDecimal("25.5")), money);
+    }
+
+    @Test
+    void shouldRejectAmountsWithMoreDecimalsThanTheCurrency() {
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("10.005")));
+    }
+
+    @Test
+    void shouldAddAndSubtract() {
+        // Given
+        Money fee = Money.of(new BigDecimal("10.00"));
+        Money payout = Money.of(new BigDecimal("15.75"));
+
+        // Then
+        assertEquals(new BigDecimal("25.75"), fee.plus(payout).toBigDecimal());
+        assertEquals(new BigDecimal("5.75"), payout.minus(fee).toBigDecimal());
+        assertEquals(new BigDecimal("31.50"), payout.times(2).toBigDecimal());
+    }
+
+    @Test
+    void shouldDetectOverflow() {
+        // Given
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        // When & Then
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> max.times(2));
+    }
+
+    @Test
+    void shouldNotMixCurrencies() {
+        // Given
+        Money real = Money.ofMinor(100);
+        Money dollar = Money.ofMinor(100, Currency.getInstance("USD"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> real.plus(dollar));
+    }
+}
@@ -0,0 +1,43 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.model.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void shouldGenerateVersion7Uuid() {
+        // Given
+        Instant instant = Instant.parse("2025-07-27T10:15:30.123Z");
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(instant, ZoneOffset.UTC));
+
+        // When
+        UUID id = generator.generate();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(instant.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void shouldGenerateIncreasingIdsWithinTheSameMillisecond() {
+        // Given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(
+                Clock.fixed(Instant.parse("2025-07-27T10:15:30Z"), ZoneOffset.UTC));
+
+        // When & Then
+        UUID previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.generate();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+}
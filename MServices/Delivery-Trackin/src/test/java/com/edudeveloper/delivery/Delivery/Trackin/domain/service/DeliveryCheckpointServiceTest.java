@@ -0,0 +1,109 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DeliveryNotFoundException;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.cache.DeliveryCacheConfig;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryRepository;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.JpaDeliveryStore;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTracking;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingProjector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DeliveryCheckpointService.class, DeliveryTrackingProjector.class, DeliveryTrackingQueryService.class,
+        DeliveryCacheConfig.class, JpaDeliveryStore.class})
+class DeliveryCheckpointServiceTest {
+
+    @Autowired
+    private DeliveryCheckpointService deliveryCheckpointService;
+
+    @Autowired
+    private DeliveryTrackingQueryService deliveryTrackingQueryService;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    private Delivery delivery;
+
+    @BeforeEach
+    void setUp() {
+        delivery = Delivery.draft();
+        delivery.addItem("Produto", 1);
+        delivery.editPreparationDetails(Delivery.PreparationDetails.builder()
+                .sender(ContactPoint.builder().name("João Silva").zipCode("01234-567").build())
+                .recipient(ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build())
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build());
+        deliveryRepository.save(delivery);
+    }
+
+    @Test
+    void shouldProjectEveryTransitionIntoTheTrackingReadModel() {
+        // Given
+        UUID courierId = UUID.randomUUID();
+
+        // When & Then
+        deliveryCheckpointService.place(delivery.getId());
+        DeliveryTracking tracking = deliveryTrackingQueryService.findById(delivery.getId());
+        assertEquals(DeliveryStatus.WAITING_FOR_COURIER, tracking.getStatus());
+        assertEquals(delivery.getExpectedDeliveryAt(), tracking.getExpectedDeliveryAt());
+
+        deliveryCheckpointService.pickUp(delivery.getId(), courierId);
+        tracking = deliveryTrackingQueryService.findById(delivery.getId());
+        assertEquals(DeliveryStatus.IN_TRANSIT, tracking.getStatus());
+        assertEquals(courierId, tracking.getCourierId());
+        assertNotNull(tracking.getAssignedAt());
+
+        deliveryCheckpointService.complete(delivery.getId());
+        tracking = deliveryTrackingQueryService.findById(delivery.getId());
+        assertEquals(DeliveryStatus.DELIVERY, tracking.getStatus());
+        assertNotNull(tracking.getFulfilledAt());
+    }
+
+    @Test
+    void shouldQueryTrackingByCourierAndStatus() {
+        // Given
+        UUID courierId = UUID.randomUUID();
+        deliveryCheckpointService.place(delivery.getId());
+        deliveryCheckpointService.pickUp(delivery.getId(), courierId);
+
+        // Then
+        PageRequest page = PageRequest.of(0, 10);
+        assertEquals(1, deliveryTrackingQueryService.findByCourier(courierId, null, page).getNumberOfElements());
+        assertEquals(1, deliveryTrackingQueryService.findByCourier(courierId, DeliveryStatus.IN_TRANSIT, page).getNumberOfElements());
+        assertEquals(0, deliveryTrackingQueryService.findByCourier(courierId, DeliveryStatus.DELIVERY, page).getNumberOfElements());
+        assertEquals(1, deliveryTrackingQueryService.findByStatus(DeliveryStatus.IN_TRANSIT, page).getNumberOfElements());
+    }
+
+    @Test
+    void shouldNotKeepTheChangeLogInJpaMode() {
+        // When
+        Delivery placed = deliveryCheckpointService.place(delivery.getId());
+
+        // Then - no modo JPA a versão fica com o @Version e o log de mudanças não se acumula
+        assertTrue(placed.pullChanges().isEmpty());
+    }
+
+    @Test
+    void shouldFailForUnknownDelivery() {
+        assertThrows(DeliveryNotFoundException.class, () -> deliveryCheckpointService.place(UUID.randomUUID()));
+        assertThrows(DeliveryNotFoundException.class, () -> deliveryTrackingQueryService.findById(UUID.randomUUID()));
+    }
+}
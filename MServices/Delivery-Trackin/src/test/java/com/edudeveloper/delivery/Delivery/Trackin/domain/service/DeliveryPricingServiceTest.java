@@ -0,0 +1,34 @@
+package com.edudeveloper.delivery.Delivery.Trackin.domain.service;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryPricingServiceTest {
+
+    private final DeliveryPricingService pricingService = new DeliveryPricingService(
+            (origin, destination) -> new RouteEstimate(8.4, Duration.ofMinutes(25)),
+            new DeliveryPricingProperties());
+
+    @Test
+    void shouldComputeFeePayoutAndExpectedTimeFromRoute() {
+        // Given
+        ContactPoint sender = ContactPoint.builder().zipCode("01234-000").name("Loja").build();
+        ContactPoint recipient = ContactPoint.builder().zipCode("04567-000").name("Cliente").build();
+
+        // When
+        Delivery.PreparationDetails details = pricingService.prepare(sender, recipient);
+
+        // Then
+        assertSame(sender, details.getSender());
+        assertSame(recipient, details.getRecipient());
+        assertEquals(new BigDecimal("17.60"), details.getDistanceFee());
+        assertEquals(new BigDecimal("11.40"), details.getCourierPayout());
+        assertEquals(Duration.ofMinutes(55), details.getExpectedDeliveryTime());
+    }
+}
@@ -0,0 +1,246 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.cache;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryRepository;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryStore;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.JpaDeliveryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sem a transação de teste: o write-through depende do commit real
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DeliveryCacheTest {
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger storeReads = new AtomicInteger();
+    private DeliveryCache deliveryCache;
+    private TransactionTemplate transaction;
+    private UUID deliveryId;
+
+    @BeforeEach
+    void setUp() {
+        DeliveryCacheProperties properties = new DeliveryCacheProperties();
+        properties.setActiveTtl(Duration.ofSeconds(5));
+        properties.setTerminalTtl(Duration.ofMinutes(1));
+        DeliveryStore countingStore = new JpaDeliveryStore(deliveryRepository) {
+            @Override
+            public Optional<Delivery> findById(UUID deliveryId) {
+                storeReads.incrementAndGet();
+                return super.findById(deliveryId);
+            }
+
+            @Override
+            public Optional<Delivery> findWithItemsById(UUID deliveryId) {
+                storeReads.incrementAndGet();
+                return super.findWithItemsById(deliveryId);
+            }
+        };
+        deliveryCache = new DeliveryCache(countingStore, transactionManager, properties, nanos::get);
+        transaction = new TransactionTemplate(transactionManager);
+
+        Delivery delivery = Delivery.draft();
+        delivery.addItem("Produto", 2);
+        delivery.editPreparationDetails(Delivery.PreparationDetails.builder()
+                .sender(ContactPoint.builder().name("João Silva").zipCode("01234-567").build())
+                .recipient(ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build())
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build());
+        deliveryId = deliveryRepository.save(delivery).getId();
+    }
+
+    @Test
+    void shouldLoadOnceWithItemsAndServeLaterReadsFromMemory() {
+        // When
+        DeliverySnapshot first = deliveryCache.get(deliveryId).orElseThrow();
+        DeliverySnapshot second = deliveryCache.get(deliveryId).orElseThrow();
+
+        // Then - snapshot imutável, com os itens
+        assertSame(first, second);
+        assertEquals(1, second.items().size());
+        assertThrows(UnsupportedOperationException.class, () -> second.items().clear());
+        assertEquals(1, deliveryCache.stats().missCount());
+        assertEquals(1, deliveryCache.stats().hitCount());
+        assertTrue(deliveryCache.get(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void shouldServeHitsWithoutTouchingTheStore() {
+        // Given
+        deliveryCache.get(deliveryId);
+        int readsAfterLoad = storeReads.get();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            deliveryCache.get(deliveryId);
+        }
+
+        // Then
+        assertEquals(1, readsAfterLoad);
+        assertEquals(readsAfterLoad, storeReads.get());
+        assertEquals(10, deliveryCache.stats().hitCount());
+    }
+
+    @Test
+    void shouldWriteThroughOnlyAfterCommit() {
+        // Given
+        DeliverySnapshot cached = deliveryCache.get(deliveryId).orElseThrow();
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            Delivery delivery = deliveryRepository.findWithItemsById(deliveryId).orElseThrow();
+            delivery.place();
+            deliveryCache.writeThrough(delivery);
+            deliveryRepository.save(delivery);
+        });
+
+        // Then - o snapshot gravado já tem a versão incrementada e é servido sem recarregar
+        long missesBefore = deliveryCache.stats().missCount();
+        DeliverySnapshot current = deliveryCache.get(deliveryId).orElseThrow();
+        assertEquals(DeliveryStatus.WAITING_FOR_COURIER, current.status());
+        assertEquals(cached.version() + 1, current.version());
+        assertEquals(1, current.items().size());
+        assertEquals(missesBefore, deliveryCache.stats().missCount());
+        assertSame(current, deliveryCache.get(deliveryId).orElseThrow());
+    }
+
+    @Test
+    void shouldInvalidateInsteadOfLoadingItemsOnWriteThrough() {
+        // Given
+        deliveryCache.get(deliveryId);
+        Delivery[] written = new Delivery[1];
+
+        // When - escrita que não lê os itens
+        transaction.executeWithoutResult(status -> {
+            Delivery delivery = deliveryRepository.findById(deliveryId).orElseThrow();
+            delivery.place();
+            deliveryCache.writeThrough(delivery);
+            written[0] = deliveryRepository.save(delivery);
+        });
+
+        // Then - itens continuam sem carregar e a próxima leitura busca a entrega completa
+        assertFalse(written[0].itemsLoaded());
+        DeliverySnapshot current = deliveryCache.get(deliveryId).orElseThrow();
+        assertEquals(2, deliveryCache.stats().missCount());
+        assertEquals(DeliveryStatus.WAITING_FOR_COURIER, current.status());
+        assertEquals(1, current.items().size());
+    }
+
+    @Test
+    void shouldSeeOtherInstancesWritesOnceTheActiveTtlPasses() {
+        // Given
+        deliveryCache.get(deliveryId);
+
+        // When - gravação que não passa por este cache
+        transaction.executeWithoutResult(status -> {
+            Delivery delivery = deliveryRepository.findById(deliveryId).orElseThrow();
+            delivery.place();
+            deliveryRepository.save(delivery);
+        });
+
+        // Then - desatualizada no máximo pelo active-ttl
+        assertEquals(DeliveryStatus.DRAFT, deliveryCache.get(deliveryId).orElseThrow().status());
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertEquals(DeliveryStatus.WAITING_FOR_COURIER, deliveryCache.get(deliveryId).orElseThrow().status());
+    }
+
+    @Test
+    void shouldInvalidateWhenTheWritingTransactionRollsBack() {
+        // Given
+        deliveryCache.get(deliveryId);
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            Delivery delivery = deliveryRepository.findById(deliveryId).orElseThrow();
+            delivery.place();
+            deliveryCache.writeThrough(delivery);
+            status.setRollbackOnly();
+        });
+        deliveryCache.get(deliveryId);
+
+        // Then - recarregado do banco
+        assertEquals(2, deliveryCache.stats().missCount());
+        assertEquals(DeliveryStatus.DRAFT, deliveryCache.get(deliveryId).orElseThrow().status());
+    }
+
+    @Test
+    void shouldKeepTheNewestVersion() {
+        // Given
+        DeliverySnapshot stale = deliveryCache.get(deliveryId).orElseThrow();
+        DeliverySnapshot placed = transaction.execute(status -> {
+            Delivery delivery = deliveryRepository.findById(deliveryId).orElseThrow();
+            delivery.place();
+            return deliveryRepository.saveAndFlush(delivery).snapshot();
+        });
+        deliveryCache.put(placed);
+
+        // When - uma escrita mais antiga chega depois
+        deliveryCache.put(stale);
+
+        // Then
+        assertEquals(DeliveryStatus.WAITING_FOR_COURIER, deliveryCache.get(deliveryId).orElseThrow().status());
+    }
+
+    @Test
+    void shouldKeepFulfilledDeliveriesForTheTerminalTtl() {
+        // Given
+        transaction.executeWithoutResult(status -> {
+            Delivery delivery = deliveryRepository.findWithItemsById(deliveryId).orElseThrow();
+            delivery.place();
+            delivery.pickUp(UUID.randomUUID());
+            delivery.markAsDelivery();
+            deliveryCache.writeThrough(delivery);
+            deliveryRepository.save(delivery);
+        });
+        DeliverySnapshot delivered = deliveryCache.get(deliveryId).orElseThrow();
+        assertEquals(DeliveryStatus.DELIVERY, delivered.status());
+
+        // When - bem além do active-ttl
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // Then
+        assertSame(delivered, deliveryCache.get(deliveryId).orElseThrow());
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertNotSame(delivered, deliveryCache.get(deliveryId).orElseThrow());
+    }
+
+    @Test
+    void shouldKeepInFlightDeliveriesForTheActiveTtl() {
+        // Given
+        DeliverySnapshot cached = deliveryCache.get(deliveryId).orElseThrow();
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        // Then
+        assertSame(cached, deliveryCache.get(deliveryId).orElseThrow());
+    }
+}
@@ -0,0 +1,169 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.deadline;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryCheckpointService;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryPreparationService;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox.OutboxMessage;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox.OutboxMessageRepository;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTracking;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.tracking.DeliveryTrackingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "delivery.deadlines.enabled=true",
+        "delivery.deadlines.tick=PT1M",
+        "delivery.deadlines.max-unassigned=PT10M"
+})
+class DeliveryDeadlineSchedulerTest {
+
+    @Autowired
+    private DeliveryDeadlineScheduler scheduler;
+
+    @Autowired
+    private DeliveryDeadlineListener listener;
+
+    @Autowired
+    private DeliveryPreparationService deliveryPreparationService;
+
+    @Autowired
+    private DeliveryCheckpointService deliveryCheckpointService;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private DeliveryTrackingRepository deliveryTrackingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // A wheel só anda para frente: o relógio dos testes continua de onde o teste anterior parou
+    private static Duration elapsed = Duration.ZERO;
+
+    @BeforeEach
+    void setUp() {
+        DomainContext.use(Clock.offset(Clock.systemDefaultZone(), elapsed));
+    }
+
+    @AfterEach
+    void tearDown() {
+        DomainContext.reset();
+    }
+
+    @Test
+    void shouldPublishUnassignedAndLateEventsWhenDeadlinesPass() {
+        // Given
+        UUID deliveryId = placedDelivery();
+
+        // When
+        advanceBy(Duration.ofMinutes(12));
+        List<String> afterUnassigned = outboxEventTypes(deliveryId);
+        advanceBy(Duration.ofDays(1));
+
+        // Then
+        assertEquals(List.of("DeliveryPlacedEvent", "DeliveryUnassignedTooLongEvent"), afterUnassigned);
+        assertEquals(List.of("DeliveryPlacedEvent", "DeliveryUnassignedTooLongEvent", "DeliveryLateEvent"),
+                outboxEventTypes(deliveryId));
+    }
+
+    @Test
+    void shouldCancelDeadlinesAsTheDeliveryProgresses() {
+        // Given
+        UUID deliveryId = placedDelivery();
+        deliveryCheckpointService.pickUp(deliveryId, UUID.randomUUID());
+        advanceBy(Duration.ofMinutes(12));
+        deliveryCheckpointService.complete(deliveryId);
+
+        // When
+        advanceBy(Duration.ofDays(1));
+
+        // Then
+        assertEquals(List.of("DeliveryPlacedEvent", "DeliveryPickUpEvent", "DeliveryFulfilledEvent"),
+                outboxEventTypes(deliveryId));
+    }
+
+    @Test
+    void shouldNotPublishDeadlinesThatNoLongerHoldInTheReadModel() {
+        // Given - a coleta foi feita em outro nó e esta wheel ainda tem o prazo antigo
+        UUID deliveryId = placedDelivery();
+        deliveryCheckpointService.pickUp(deliveryId, UUID.randomUUID());
+        DeliveryTracking tracking = deliveryTrackingRepository.findById(deliveryId).orElseThrow();
+        scheduler.track(deliveryId, DeliveryStatus.WAITING_FOR_COURIER, tracking.getPlacedAt(), null);
+
+        // When
+        advanceBy(Duration.ofMinutes(12));
+
+        // Then
+        assertEquals(List.of("DeliveryPlacedEvent", "DeliveryPickUpEvent"), outboxEventTypes(deliveryId));
+    }
+
+    @Test
+    void shouldPublishEachDeadlineOnlyOnceAcrossNodes() {
+        // Given - outro nó já publicou o aviso de entrega sem entregador
+        UUID deliveryId = placedDelivery();
+        DeliveryTracking tracking = deliveryTrackingRepository.findById(deliveryId).orElseThrow();
+        elapsed = elapsed.plus(Duration.ofMinutes(12));
+        DomainContext.use(Clock.offset(Clock.systemDefaultZone(), elapsed));
+        transactionTemplate.executeWithoutResult(status -> deliveryTrackingRepository.claimUnassignedNotice(
+                deliveryId, DeliveryStatus.WAITING_FOR_COURIER, tracking.getPlacedAt(), DomainContext.now()));
+
+        // When
+        advanceBy(Duration.ZERO);
+
+        // Then
+        assertEquals(List.of("DeliveryPlacedEvent"), outboxEventTypes(deliveryId));
+    }
+
+    @Test
+    void shouldReloadActiveDeliveriesWithoutDuplicatingDeadlines() {
+        // Given
+        placedDelivery();
+        listener.hydrate();
+        int pending = scheduler.pending();
+
+        // When
+        int loaded = listener.hydrate();
+
+        // Then
+        assertTrue(loaded >= 1);
+        assertEquals(pending, scheduler.pending());
+    }
+
+    private UUID placedDelivery() {
+        UUID deliveryId = deliveryPreparationService.draft(
+                ContactPoint.builder().name("João Silva").zipCode("01234-567").build(),
+                ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build(),
+                List.of(new Delivery.NewItem("Caixa", 2))).getId();
+        deliveryCheckpointService.place(deliveryId);
+        return deliveryId;
+    }
+
+    private void advanceBy(Duration duration) {
+        elapsed = elapsed.plus(duration);
+        DomainContext.use(Clock.offset(Clock.systemDefaultZone(), elapsed));
+        scheduler.advance();
+    }
+
+    private List<String> outboxEventTypes(UUID deliveryId) {
+        return outboxMessageRepository.findAll().stream()
+                .filter(message -> message.getAggregateId().equals(deliveryId))
+                .sorted((a, b) -> a.getOccurredAt().compareTo(b.getOccurredAt()))
+                .map(OutboxMessage::getEventType)
+                .toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.deadline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    // Tick de 10 ms, 4 baldes, 3 níveis: 40 ms no nível 0, 160 ms no 1 e 640 ms no 2
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 3, 0);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void shouldFireEachDeadlineOnItsTickAcrossLevels() {
+        // Given
+        wheel.schedule(25, "nível 0");
+        wheel.schedule(130, "nível 1");
+        wheel.schedule(500, "nível 2");
+        wheel.schedule(2_000, "além da wheel");
+
+        // Then
+        assertFiredAt(20, List.of());
+        assertFiredAt(30, List.of("nível 0"));
+        assertFiredAt(129, List.of());
+        assertFiredAt(130, List.of("nível 1"));
+        assertFiredAt(499, List.of());
+        assertFiredAt(1_999, List.of("nível 2"));
+        assertFiredAt(2_000, List.of("além da wheel"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldFireDeadlinesInTheOrderOfTheirTicksWhenAdvancingFar() {
+        // Given
+        wheel.schedule(300, "c");
+        wheel.schedule(15, "a");
+        wheel.schedule(90, "b");
+
+        // When
+        wheel.advanceTo(1_000, timeout -> fired.add(timeout.value()));
+
+        // Then
+        assertEquals(List.of("a", "b", "c"), fired);
+    }
+
+    @Test
+    void shouldNotFireCancelledDeadlines() {
+        // Given
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule(100, "cancelado");
+        wheel.schedule(100, "mantido");
+
+        // When
+        assertTrue(wheel.cancel(cancelled));
+        wheel.advanceTo(200, timeout -> fired.add(timeout.value()));
+
+        // Then
+        assertEquals(List.of("mantido"), fired);
+        assertFalse(cancelled.isPending());
+        assertFalse(wheel.cancel(cancelled));
+    }
+
+    @Test
+    void shouldFireOverdueDeadlinesOnTheNextAdvance() {
+        // Given
+        wheel.advanceTo(1_000, timeout -> fired.add(timeout.value()));
+        wheel.schedule(200, "vencido");
+
+        // When
+        wheel.advanceTo(1_000, timeout -> fired.add(timeout.value()));
+
+        // Then
+        assertEquals(List.of("vencido"), fired);
+    }
+
+    private void assertFiredAt(long nowMillis, List<String> expected) {
+        fired.clear();
+        wheel.advanceTo(nowMillis, timeout -> fired.add(timeout.value()));
+        assertEquals(expected, fired);
+    }
+}
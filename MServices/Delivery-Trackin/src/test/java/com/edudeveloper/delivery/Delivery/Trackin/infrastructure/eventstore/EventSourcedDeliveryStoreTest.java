@@ -0,0 +1,127 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.eventstore;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryCheckpointService;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryExportService;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryPreparationService;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox.OutboxMessageRepository;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryRepository;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "delivery.storage.mode=event-sourced",
+        "delivery.storage.snapshot-every=3"
+})
+class EventSourcedDeliveryStoreTest {
+
+    @Autowired
+    private DeliveryStore deliveryStore;
+
+    @Autowired
+    private DeliveryPreparationService deliveryPreparationService;
+
+    @Autowired
+    private DeliveryCheckpointService deliveryCheckpointService;
+
+    @Autowired
+    private DeliveryEventRecordRepository eventRepository;
+
+    @Autowired
+    private DeliverySnapshotRecordRepository snapshotRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DeliveryExportService deliveryExportService;
+
+    @Test
+    void shouldAppendEveryChangeAndRebuildFromSnapshotPlusTail() {
+        // Given
+        assertInstanceOf(EventSourcedDeliveryStore.class, deliveryStore);
+        UUID deliveryId = draft().getId();
+
+        // When
+        UUID itemId = deliveryPreparationService.addItem(deliveryId, "Envelope", 1);
+        deliveryPreparationService.changeItemQuantity(deliveryId, itemId, 4);
+        deliveryCheckpointService.place(deliveryId);
+        deliveryCheckpointService.pickUp(deliveryId, UUID.randomUUID());
+
+        // Then - Drafted, ItemAdded, PreparationDetailsEdited, ItemAdded, ItemQuantityChanged, Placed, PickedUp
+        List<DeliveryEventRecord> events = eventRepository.findByDeliveryIdOrderBySequence(deliveryId);
+        assertEquals(7, events.size());
+        assertEquals(List.of("Drafted", "ItemAdded", "PreparationDetailsEdited", "ItemAdded",
+                        "ItemQuantityChanged", "Placed", "PickedUp"),
+                events.stream().map(DeliveryEventRecord::getType).toList());
+        assertEquals(6, snapshotRepository.findById(deliveryId).orElseThrow().getSequence());
+        assertFalse(deliveryRepository.existsById(deliveryId));
+
+        Delivery rebuilt = transactionTemplate.execute(status -> deliveryStore.findById(deliveryId).orElseThrow());
+        assertEquals(7L, rebuilt.getVersion());
+        assertEquals(DeliveryStatus.IN_TRANSIT, rebuilt.getStatus());
+        assertEquals(6, rebuilt.getTotalItems());
+        assertEquals(2, rebuilt.getItems().size());
+        assertEquals(2, outboxMessageRepository.findAll().stream()
+                .filter(message -> message.getAggregateId().equals(deliveryId))
+                .count());
+    }
+
+    @Test
+    void shouldRejectConcurrentAppendsToTheSameStream() {
+        // Given
+        UUID deliveryId = draft().getId();
+        Delivery first = transactionTemplate.execute(status -> deliveryStore.findById(deliveryId).orElseThrow());
+        Delivery second = transactionTemplate.execute(status -> deliveryStore.findById(deliveryId).orElseThrow());
+        first.place();
+        second.place();
+        transactionTemplate.executeWithoutResult(status -> deliveryStore.save(first));
+
+        // Then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> deliveryStore.save(second)));
+        assertEquals(4, eventRepository.findByDeliveryIdOrderBySequence(deliveryId).size());
+    }
+
+    @Test
+    void shouldRefuseToExportFromTheStaleDeliveryTable() {
+        // Given
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // Then
+        assertThrows(DomainException.class, deliveryExportService::ensureAvailable);
+        assertThrows(DomainException.class, () -> deliveryExportService.exportFulfilled(now.minusDays(1), now,
+                page -> fail("nada deve ser exportado")));
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownDeliveries() {
+        assertTrue(transactionTemplate.execute(status -> deliveryStore.findById(UUID.randomUUID())).isEmpty());
+    }
+
+    private Delivery draft() {
+        return deliveryPreparationService.draft(
+                ContactPoint.builder().name("João Silva").zipCode("01234-567").build(),
+                ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build(),
+                List.of(new Delivery.NewItem("Caixa", 2)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryCheckpointService;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryPreparationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "delivery.journal.enabled=true",
+        "delivery.journal.drain-batch-size=2",
+        "delivery.journal.drain-interval=PT1H"
+})
+class TrackingJournalDrainerTest {
+
+    private static final Path DIRECTORY = createTempDirectory();
+
+    @Autowired
+    private TrackingJournal journal;
+
+    @Autowired
+    private TrackingJournalDrainer drainer;
+
+    @Autowired
+    private TrackingEventRecordRepository trackingEventRecordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DeliveryPreparationService deliveryPreparationService;
+
+    @Autowired
+    private DeliveryCheckpointService deliveryCheckpointService;
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) {
+        registry.add("delivery.journal.directory", DIRECTORY::toString);
+    }
+
+    @Test
+    void shouldJournalStatusChangesAndDrainThemToTheDatabase() {
+        // Given
+        UUID courierId = UUID.randomUUID();
+        UUID deliveryId = deliveryPreparationService.draft(
+                ContactPoint.builder().name("João Silva").zipCode("01234-567").build(),
+                ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build(),
+                List.of(new Delivery.NewItem("Caixa", 2))).getId();
+        deliveryCheckpointService.place(deliveryId);
+        deliveryCheckpointService.pickUp(deliveryId, courierId);
+        deliveryCheckpointService.complete(deliveryId);
+
+        // Then - anotado no journal antes de chegar ao banco
+        assertEquals(List.of(DeliveryStatus.WAITING_FOR_COURIER, DeliveryStatus.IN_TRANSIT, DeliveryStatus.DELIVERY),
+                journal.history(deliveryId).stream().map(TrackingJournalEntry::status).toList());
+        assertTrue(trackingEventRecordRepository.findByDeliveryIdOrderByOccurredAtAscSequenceAsc(deliveryId).isEmpty());
+
+        // When
+        drainer.drain();
+
+        // Then
+        List<TrackingEventRecord> records = trackingEventRecordRepository.findByDeliveryIdOrderByOccurredAtAscSequenceAsc(deliveryId);
+        assertEquals(3, records.size());
+        assertEquals(courierId, records.getLast().getCourierId());
+        assertEquals(journal.lastSequence(), drainer.drainedSequence());
+        assertEquals(0, drainer.drain());
+    }
+
+    @Test
+    void shouldDrainNewJournalDirectoryWhoseSequencesRestartAtOne() throws IOException {
+        // Given - o journal do contexto já drenou sequences a partir de 1
+        UUID deliveryId = UUID.randomUUID();
+        journal.append(UUID.randomUUID(), DeliveryStatus.WAITING_FOR_COURIER, null, Instant.now());
+        drainer.drain();
+        TrackingJournalProperties properties = new TrackingJournalProperties();
+        properties.setDrainBatchSize(2);
+
+        try (TrackingJournal freshJournal = TrackingJournal.open(createTempDirectory(), TrackingJournal.RECORD_SIZE * 4)) {
+            freshJournal.append(deliveryId, DeliveryStatus.WAITING_FOR_COURIER, null, Instant.now());
+            freshJournal.append(deliveryId, DeliveryStatus.IN_TRANSIT, UUID.randomUUID(), Instant.now());
+            TrackingJournalDrainer freshDrainer = new TrackingJournalDrainer(
+                    freshJournal, trackingEventRecordRepository, properties, transactionTemplate);
+
+            // When
+            int drained = freshDrainer.drain();
+
+            // Then - nada é pulado por causa das sequences já drenadas do outro journal
+            assertNotEquals(journal.journalId(), freshJournal.journalId());
+            assertEquals(2, drained);
+            assertEquals(2, trackingEventRecordRepository.findByDeliveryIdOrderByOccurredAtAscSequenceAsc(deliveryId).size());
+            assertEquals(2, freshJournal.lastSequence());
+        }
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("tracking-journal");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.journal;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackingJournalTest {
+
+    // Quatro registros por segmento
+    private static final int SEGMENT_SIZE = TrackingJournal.RECORD_SIZE * 4;
+
+    private final Instant now = Instant.parse("2025-07-27T10:00:00.123Z");
+    private final UUID deliveryId = UUID.randomUUID();
+    private final UUID otherDeliveryId = UUID.randomUUID();
+    private final UUID courierId = UUID.randomUUID();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldAppendAndReadTheHistoryOfEachDelivery() throws IOException {
+        try (TrackingJournal journal = TrackingJournal.open(directory, SEGMENT_SIZE)) {
+            // When
+            journal.append(deliveryId, DeliveryStatus.WAITING_FOR_COURIER, null, now);
+            journal.append(otherDeliveryId, DeliveryStatus.WAITING_FOR_COURIER, null, now);
+            journal.append(deliveryId, DeliveryStatus.IN_TRANSIT, courierId, now.plusSeconds(60));
+
+            // Then
+            assertEquals(List.of(
+                    new TrackingJournalEntry(1, deliveryId, DeliveryStatus.WAITING_FOR_COURIER, null, now),
+                    new TrackingJournalEntry(3, deliveryId, DeliveryStatus.IN_TRANSIT, courierId, now.plusSeconds(60))),
+                    journal.history(deliveryId));
+            assertEquals(1, journal.history(otherDeliveryId).size());
+            assertTrue(journal.history(UUID.randomUUID()).isEmpty());
+        }
+    }
+
+    @Test
+    void shouldRollOverToNewSegmentsAndReadSequentially() throws IOException {
+        try (TrackingJournal journal = TrackingJournal.open(directory, SEGMENT_SIZE)) {
+            // When
+            appendTransitions(journal, 10);
+
+            // Then
+            assertEquals(3, segmentFiles());
+            assertEquals(10, journal.lastSequence());
+            List<TrackingJournalEntry> page = journal.read(3, 4);
+            assertEquals(List.of(4L, 5L, 6L, 7L), page.stream().map(TrackingJournalEntry::sequence).toList());
+            assertEquals(10, journal.history(deliveryId).size());
+        }
+    }
+
+    @Test
+    void shouldRebuildIndexAndSequenceWhenReopened() throws IOException {
+        // Given
+        UUID journalId;
+        try (TrackingJournal journal = TrackingJournal.open(directory, SEGMENT_SIZE)) {
+            journalId = journal.journalId();
+            appendTransitions(journal, 6);
+            journal.append(otherDeliveryId, DeliveryStatus.DELIVERY, courierId, now);
+        }
+
+        // When
+        try (TrackingJournal reopened = TrackingJournal.open(directory, SEGMENT_SIZE)) {
+            TrackingJournalEntry next = reopened.append(otherDeliveryId, DeliveryStatus.DELIVERY, courierId, now);
+
+            // Then
+            assertEquals(journalId, reopened.journalId());
+            assertEquals(8, next.sequence());
+            assertEquals(6, reopened.history(deliveryId).size());
+            assertEquals(List.of(7L, 8L), reopened.history(otherDeliveryId).stream().map(TrackingJournalEntry::sequence).toList());
+            assertEquals(8, reopened.read(0, 100).size());
+        }
+    }
+
+    @Test
+    void shouldStopRecoveryAtATornRecordAndOverwriteIt() throws IOException {
+        // Given
+        try (TrackingJournal journal = TrackingJournal.open(directory, SEGMENT_SIZE)) {
+            appendTransitions(journal, 3);
+        }
+        try (RandomAccessFile segment = new RandomAccessFile(directory.resolve(String.format("%020d.segment", 0)).toFile(), "rw")) {
+            // Inverte um byte do id da entrega: sobrescrever com um valor fixo às vezes não muda nada
+            long offset = 2L * TrackingJournal.RECORD_SIZE + 20;
+            segment.seek(offset);
+            int original = segment.readUnsignedByte();
+            segment.seek(offset);
+            segment.writeByte(~original);
+        }
+
+        // When
+        try (TrackingJournal reopened = TrackingJournal.open(directory, SEGMENT_SIZE)) {
+            // Then
+            assertEquals(2, reopened.lastSequence());
+            assertEquals(3, reopened.append(deliveryId, DeliveryStatus.DELIVERY, courierId, now).sequence());
+            assertEquals(3, reopened.history(deliveryId).size());
+        }
+    }
+
+    @Test
+    void shouldDiscardWholeSegmentsBeforeTheGivenSequence() throws IOException {
+        try (TrackingJournal journal = TrackingJournal.open(directory, SEGMENT_SIZE)) {
+            // Given
+            appendTransitions(journal, 10);
+
+            // When
+            journal.truncateBefore(9);
+
+            // Then - o segmento 2 (9..12) é o ativo e fica; 1..8 saem
+            assertEquals(1, segmentFiles());
+            assertEquals(9, journal.firstSequence());
+            assertEquals(List.of(9L, 10L), journal.history(deliveryId).stream().map(TrackingJournalEntry::sequence).toList());
+            assertEquals(2, journal.read(0, 100).size());
+        }
+    }
+
+    private void appendTransitions(TrackingJournal journal, int count) {
+        for (int i = 0; i < count; i++) {
+            journal.append(deliveryId, DeliveryStatus.IN_TRANSIT, courierId, now.plusSeconds(i));
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".segment")).count();
+        }
+    }
+}
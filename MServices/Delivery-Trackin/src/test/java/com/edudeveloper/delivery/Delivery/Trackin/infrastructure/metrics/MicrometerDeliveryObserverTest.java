@@ -0,0 +1,125 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.metrics;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.support.DomainContext;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.*;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerDeliveryObserverTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+
+    @BeforeEach
+    void setUp() {
+        DomainContext.use(new MicrometerDeliveryObserver(registry));
+        DomainContext.use(clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DomainContext.reset();
+    }
+
+    @Test
+    void shouldCountTransitionsAndTimeEachStage() {
+        // Given
+        Delivery delivery = filledDraft();
+
+        // When
+        delivery.place();
+        clock.advance(Duration.ofMinutes(5));
+        delivery.pickUp(UUID.randomUUID());
+        clock.advance(Duration.ofMinutes(30));
+        delivery.markAsDelivery();
+
+        // Then
+        assertEquals(1, transitions("DRAFT", "WAITING_FOR_COURIER"));
+        assertEquals(1, transitions("WAITING_FOR_COURIER", "IN_TRANSIT"));
+        assertEquals(1, transitions("IN_TRANSIT", "DELIVERY"));
+
+        Timer waiting = registry.get("delivery.stage.duration").tag("stage", "waiting_for_courier").timer();
+        Timer inTransit = registry.get("delivery.stage.duration").tag("stage", "in_transit").timer();
+        assertEquals(1, waiting.count());
+        assertEquals(5, waiting.totalTime(TimeUnit.MINUTES));
+        assertEquals(30, inTransit.totalTime(TimeUnit.MINUTES));
+    }
+
+    @Test
+    void shouldCountRejectedTransitionsByReason() {
+        // Given
+        Delivery delivery = Delivery.draft();
+
+        // When
+        assertThrows(DomainException.class, delivery::place);
+        assertThrows(DomainException.class, delivery::markAsDelivery);
+
+        // Then
+        assertEquals(1, rejected("DRAFT", "WAITING_FOR_COURIER", "INCOMPLETE_DETAILS"));
+        assertEquals(1, rejected("DRAFT", "DELIVERY", "INVALID_TRANSITION"));
+        assertEquals(0, transitions("DRAFT", "WAITING_FOR_COURIER"));
+    }
+
+    private double transitions(String from, String to) {
+        return registry.get("delivery.transitions").tag("from", from).tag("to", to).counter().count();
+    }
+
+    private double rejected(String from, String to, String reason) {
+        return registry.get("delivery.transitions.rejected")
+                .tag("from", from).tag("to", to).tag("reason", reason)
+                .counter().count();
+    }
+
+    private static Delivery filledDraft() {
+        Delivery delivery = Delivery.draft();
+        delivery.addItem("Produto", 1);
+        delivery.editPreparationDetails(Delivery.PreparationDetails.builder()
+                .sender(ContactPoint.builder().name("João Silva").zipCode("01234-567").build())
+                .recipient(ContactPoint.builder().name("Maria Santos").zipCode("04567-890").build())
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build());
+        return delivery;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExposeDeliveryMetricsInPrometheusFormat() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "delivery_transitions_total{from=\"DRAFT\",to=\"WAITING_FOR_COURIER\"}")))
+                .andExpect(content().string(containsString("delivery_transitions_rejected_total{")))
+                .andExpect(content().string(containsString("delivery_stage_duration_seconds_bucket{")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"delivery\"")));
+    }
+}
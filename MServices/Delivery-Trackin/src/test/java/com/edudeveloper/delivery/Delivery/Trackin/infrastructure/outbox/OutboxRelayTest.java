@@ -0,0 +1,125 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.outbox;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DeliveryCheckpointService;
+import com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence.DeliveryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class OutboxRelayTest {
+
+    @Autowired
+    private DeliveryCheckpointService deliveryCheckpointService;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private RecordingPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageRepository.deleteAll();
+        publisher.batches.clear();
+    }
+
+    @Test
+    void shouldWriteTransitionEventsToTheOutboxAndRelayThemInBatches() {
+        // Given
+        Delivery delivery = Delivery.draft();
+        delivery.editPreparationDetails(Delivery.PreparationDetails.builder()
+                .sender(ContactPoint.builder().name("João Silva").build())
+                .recipient(ContactPoint.builder().name("Maria Santos").build())
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build());
+        deliveryRepository.save(delivery);
+        UUID courierId = UUID.randomUUID();
+
+        // When
+        deliveryCheckpointService.place(delivery.getId());
+        deliveryCheckpointService.pickUp(delivery.getId(), courierId);
+        deliveryCheckpointService.complete(delivery.getId());
+
+        // Then
+        assertEquals(3, outboxMessageRepository.count());
+
+        int published = outboxRelay.drain();
+
+        assertEquals(3, published);
+        assertEquals(0, outboxMessageRepository.count());
+        assertEquals(List.of(2, 1), publisher.batches.stream().map(List::size).toList());
+        List<OutboxMessage> messages = publisher.batches.stream().flatMap(List::stream).toList();
+        assertEquals(List.of("DeliveryPlacedEvent", "DeliveryPickUpEvent", "DeliveryFulfilledEvent"),
+                messages.stream().map(OutboxMessage::getEventType).toList());
+        assertTrue(messages.stream().allMatch(m -> m.getAggregateId().equals(delivery.getId())));
+        assertTrue(messages.get(1).getPayload().contains(courierId.toString()));
+    }
+
+    @Test
+    void shouldKeepMessagesWhenPublishingFails() {
+        // Given
+        Delivery delivery = Delivery.draft();
+        delivery.editPreparationDetails(Delivery.PreparationDetails.builder()
+                .recipient(ContactPoint.builder().name("Maria Santos").build())
+                .distanceFee(BigDecimal.ZERO)
+                .courierPayout(BigDecimal.ZERO)
+                .expectedDeliveryTime(Duration.ofHours(1))
+                .build());
+        deliveryRepository.save(delivery);
+        deliveryCheckpointService.place(delivery.getId());
+        publisher.failing = true;
+
+        // When & Then
+        try {
+            assertThrows(IllegalStateException.class, () -> outboxRelay.drain());
+            assertEquals(1, outboxMessageRepository.count());
+        } finally {
+            publisher.failing = false;
+        }
+    }
+
+    static class RecordingPublisher implements OutboxMessagePublisher {
+        private final List<List<OutboxMessage>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void publish(List<OutboxMessage> messages) {
+            if (failing) {
+                throw new IllegalStateException("broker indisponível");
+            }
+            batches.add(List.copyOf(messages));
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        @Primary
+        RecordingPublisher recordingPublisher() {
+            return new RecordingPublisher();
+        }
+    }
+}
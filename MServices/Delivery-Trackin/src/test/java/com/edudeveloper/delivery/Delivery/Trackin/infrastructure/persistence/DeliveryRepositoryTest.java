@@ -0,0 +1,126 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.persistence;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Item;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DeliveryRepositoryTest {
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldPersistDeliveryWithItemsAndContactPoints() {
+        // Given
+        Delivery delivery = Delivery.draft();
+        delivery.addItem("Primeiro", 1);
+        delivery.addItem("Segundo", 2);
+        delivery.addItem("Terceiro", 3);
+        delivery.editPreparationDetails(details());
+
+        // When
+        deliveryRepository.saveAndFlush(delivery);
+        entityManager.clear();
+        Delivery found = deliveryRepository.findById(delivery.getId()).orElseThrow();
+
+        // Then
+        assertEquals(0L, found.getVersion());
+        assertEquals(6, found.getTotalItems());
+        assertEquals(List.of("Primeiro", "Segundo", "Terceiro"),
+                found.getItems().stream().map(Item::getName).toList());
+        assertEquals(delivery.getSender(), found.getSender());
+        assertEquals(delivery.getRecipient(), found.getRecipient());
+        assertEquals(0, new BigDecimal("25.00").compareTo(found.getTotalCost()));
+    }
+
+    @Test
+    void shouldInsertItemsInBatches() {
+        // Given
+        Delivery delivery = Delivery.draft();
+        for (int i = 0; i < 200; i++) {
+            delivery.addItem("Produto " + i, 1);
+        }
+
+        // When
+        deliveryRepository.saveAndFlush(delivery);
+
+        // Then
+        assertEquals(201, statistics.getEntityInsertCount());
+        // Só INSERTs: o da entrega e o dos itens em lotes, sem UPDATE posterior de delivery_id
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldRejectStaleUpdates() {
+        // Given
+        Delivery delivery = Delivery.draft();
+        delivery.addItem("Produto", 1);
+        deliveryRepository.saveAndFlush(delivery);
+        entityManager.clear();
+
+        Delivery stale = deliveryRepository.findById(delivery.getId()).orElseThrow();
+        stale.getItems();
+        entityManager.detach(stale);
+
+        Delivery current = deliveryRepository.findById(delivery.getId()).orElseThrow();
+        current.addItem("Outro Produto", 1);
+        deliveryRepository.saveAndFlush(current);
+
+        // When & Then
+        stale.removeItems();
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> deliveryRepository.saveAndFlush(stale));
+    }
+
+    private Delivery.PreparationDetails details() {
+        ContactPoint sender = ContactPoint.builder()
+                .name("João Silva")
+                .phone("11999999999")
+                .zipCode("01234-567")
+                .street("Rua A")
+                .number("123")
+                .build();
+        ContactPoint recipient = ContactPoint.builder()
+                .name("Maria Santos")
+                .phone("11888888888")
+                .zipCode("04567-890")
+                .street("Rua B")
+                .number("456")
+                .build();
+        return Delivery.PreparationDetails.builder()
+                .sender(sender)
+                .recipient(recipient)
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.routing;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.DistanceProvider;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.service.RouteEstimate;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingDistanceProviderTest {
+
+    private final RouteEstimate route = new RouteEstimate(8.4, Duration.ofMinutes(25));
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private final TableDistanceProvider table = new TableDistanceProvider(
+            Map.of(TableDistanceProvider.PrefixPair.of("01234", "04567"), route));
+
+    @Test
+    void shouldCacheByTheExactOrderedZipPair() {
+        // Given
+        CachingDistanceProvider provider = new CachingDistanceProvider(countingTable(), 100, Duration.ofHours(1));
+
+        // When
+        provider.estimate("01234-000", "04567-000");
+        provider.estimate("01234000", "04567-000");
+        provider.estimate("01234-999", "04567-123");
+        RouteEstimate reversed = provider.estimate("04567-000", "01234-000");
+
+        // Then - só a mesma origem e o mesmo destino reaproveitam a estimativa
+        assertEquals(route, reversed);
+        assertEquals(3, lookups.get());
+        assertEquals(1, provider.stats().hitCount());
+    }
+
+    @Test
+    void shouldRejectMalformedZipCodesWithoutLookingUp() {
+        // Given
+        CachingDistanceProvider provider = new CachingDistanceProvider(countingTable(), 100, Duration.ofHours(1));
+
+        // Then
+        assertThrows(DomainException.class, () -> provider.estimate("abc", "04567-000"));
+        assertThrows(DomainException.class, () -> provider.estimate("01234-00", "04567-000"));
+        assertThrows(DomainException.class, () -> provider.estimate("01234-0000", "04567-000"));
+        assertThrows(DomainException.class, () -> provider.estimate(null, "04567-000"));
+        assertEquals(0, lookups.get());
+    }
+
+    @Test
+    void shouldLookUpAgainAfterTtl() {
+        // Given
+        AtomicLong nanos = new AtomicLong();
+        CachingDistanceProvider provider = new CachingDistanceProvider(countingTable(), 100, Duration.ofMinutes(10), nanos::get);
+        provider.estimate("01234-000", "04567-000");
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        provider.estimate("01234-000", "04567-000");
+
+        // Then
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void shouldNotCacheUnknownRoutes() {
+        // Given
+        CachingDistanceProvider provider = new CachingDistanceProvider(countingTable(), 100, Duration.ofHours(1));
+
+        // Then
+        assertThrows(DomainException.class, () -> provider.estimate("01234-000", "99999-000"));
+        assertThrows(DomainException.class, () -> provider.estimate("01234-000", "99999-000"));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void shouldLoadTableFromCsv() {
+        // Given
+        TableDistanceProvider csv = TableDistanceProvider.fromCsv(new ClassPathResource("routing/distance-table.csv"));
+
+        // Then
+        assertEquals(route, csv.estimate("04567-000", "01234-000"));
+        assertEquals(route, csv.estimate("01234-567", "04567-890"));
+    }
+
+    private DistanceProvider countingTable() {
+        return (origin, destination) -> {
+            lookups.incrementAndGet();
+            return table.estimate(origin, destination);
+        };
+    }
+}
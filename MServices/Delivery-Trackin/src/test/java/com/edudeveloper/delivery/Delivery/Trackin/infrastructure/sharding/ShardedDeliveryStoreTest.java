@@ -0,0 +1,165 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.sharding;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryFulfilledEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPickUpEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPlacedEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.ContactPoint;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.Delivery;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryChange;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliverySnapshot;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DeliveryNotFoundException;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.exception.DomainException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedDeliveryStoreTest {
+
+    private final Map<UUID, List<DeliveryChange>> sunk = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Object>> published = new ConcurrentHashMap<>();
+    private ShardedDeliveryStore store = new ShardedDeliveryStore(4, id -> Optional.empty(), (deliveryId, changes, events) -> {
+        sunk.computeIfAbsent(deliveryId, id -> new ArrayList<>()).addAll(changes);
+        published.computeIfAbsent(deliveryId, id -> new ArrayList<>()).addAll(events);
+    });
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void shouldRouteEachIdToTheSameShardAndSpreadIdsAcrossShards() {
+        // Given
+        DeliveryShardRouter router = new DeliveryShardRouter(8);
+        int[] perShard = new int[8];
+
+        // When
+        for (int i = 0; i < 8_000; i++) {
+            perShard[router.shardOf(Delivery.draft().getId())]++;
+        }
+
+        // Then
+        UUID id = UUID.randomUUID();
+        assertEquals(router.shardOf(id), router.shardOf(id));
+        assertTrue(IntStream.of(perShard).allMatch(count -> count > 800 && count < 1_200));
+    }
+
+    @Test
+    void shouldRunTransitionsOnTheOwningShardAndHandChangesToTheSink() {
+        // Given
+        Delivery delivery = readyDraft();
+        UUID courierId = UUID.randomUUID();
+        store.register(delivery).join();
+
+        // When
+        store.place(delivery.getId()).join();
+        store.pickUp(delivery.getId(), courierId).join();
+        DeliverySnapshot completed = store.complete(delivery.getId()).join();
+
+        // Then
+        assertEquals(DeliveryStatus.DELIVERY, completed.status());
+        assertEquals(courierId, completed.courierId());
+        List<DeliveryChange> changes = sunk.get(delivery.getId());
+        assertEquals(completed.version(), changes.size());
+        assertInstanceOf(DeliveryChange.Fulfilled.class, changes.getLast());
+        assertEquals(completed, Delivery.replay(null, changes).snapshot());
+        assertEquals(List.of(DeliveryPlacedEvent.class, DeliveryPickUpEvent.class, DeliveryFulfilledEvent.class),
+                published.get(delivery.getId()).stream().map(Object::getClass).toList());
+    }
+
+    @Test
+    void shouldSerializeConcurrentUpdatesToTheSameDelivery() {
+        // Given
+        Delivery delivery = Delivery.draft();
+        UUID itemId = delivery.addItem("Caixa", 1);
+        store.register(delivery).join();
+
+        // When - 1000 incrementos disparados em paralelo, sem lock no agregado
+        List<CompletableFuture<DeliverySnapshot>> updates = IntStream.range(0, 1_000)
+                .parallel()
+                .mapToObj(i -> store.update(delivery.getId(), draft -> draft.changeItemQuantity(itemId,
+                        draft.snapshot().items().getFirst().quantity() + 1)))
+                .toList();
+        CompletableFuture.allOf(updates.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertEquals(1_001, store.find(delivery.getId()).join().orElseThrow().totalItems());
+    }
+
+    @Test
+    void shouldFailTheFutureForInvalidTransitionsAndUnknownDeliveries() {
+        // Given
+        Delivery draft = Delivery.draft();
+        store.register(draft).join();
+
+        // Then
+        CompletionException invalid = assertThrows(CompletionException.class, () -> store.complete(draft.getId()).join());
+        assertInstanceOf(DomainException.class, invalid.getCause());
+        CompletionException unknown = assertThrows(CompletionException.class, () -> store.place(UUID.randomUUID()).join());
+        assertInstanceOf(DeliveryNotFoundException.class, unknown.getCause());
+        assertEquals(DeliveryStatus.DRAFT, store.find(draft.getId()).join().orElseThrow().status());
+    }
+
+    @Test
+    void shouldNotSinkChangesOfAFailedAction() {
+        // Given
+        Delivery delivery = Delivery.draft();
+        UUID itemId = delivery.addItem("Caixa", 1);
+        store.register(delivery).join();
+        int sunkBefore = sunk.get(delivery.getId()).size();
+
+        // When - a ação altera o agregado e depois falha
+        assertThrows(CompletionException.class, () -> store.update(delivery.getId(), draft -> {
+            draft.changeItemQuantity(itemId, 5);
+            throw new IllegalStateException("falha no meio da ação");
+        }).join());
+
+        // Then - nada foi repassado e o estado alterado saiu da memória
+        assertEquals(sunkBefore, sunk.get(delivery.getId()).size());
+        assertTrue(store.find(delivery.getId()).join().isEmpty());
+    }
+
+    @Test
+    void shouldLoadMissingDeliveriesOnTheOwningShard() {
+        // Given
+        Delivery persisted = readyDraft();
+        store.close();
+        store = new ShardedDeliveryStore(2, id -> id.equals(persisted.getId()) ? Optional.of(persisted) : Optional.empty(),
+                ShardedDeliveryStore.ChangeSink.NONE);
+
+        // When
+        DeliverySnapshot placed = store.place(persisted.getId()).join();
+
+        // Then
+        assertEquals(DeliveryStatus.WAITING_FOR_COURIER, placed.status());
+        assertTrue(store.evict(persisted.getId()).join());
+        assertTrue(store.find(UUID.randomUUID()).join().isEmpty());
+    }
+
+    private Delivery readyDraft() {
+        Delivery delivery = Delivery.draft();
+        delivery.addItem("Caixa", 2);
+        delivery.editPreparationDetails(Delivery.PreparationDetails.builder()
+                .sender(ContactPoint.builder().name("João Silva").build())
+                .recipient(ContactPoint.builder().name("Maria Santos").build())
+                .distanceFee(new BigDecimal("10.00"))
+                .courierPayout(new BigDecimal("15.00"))
+                .expectedDeliveryTime(Duration.ofHours(2))
+                .build());
+        return delivery;
+    }
+}
@@ -0,0 +1,128 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.stream;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackingStreamHubTest {
+
+    private final TrackingStreamHub hub = new TrackingStreamHub(16);
+    private final UUID deliveryId = UUID.randomUUID();
+    private final UUID courierId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        hub.close();
+    }
+
+    @Test
+    void shouldFanOutToDeliveryAndCourierSubscribers() throws InterruptedException {
+        // Given
+        List<TrackingUpdate> byDelivery = new CopyOnWriteArrayList<>();
+        List<TrackingUpdate> byCourier = new CopyOnWriteArrayList<>();
+        List<TrackingUpdate> otherCourier = new CopyOnWriteArrayList<>();
+        hub.subscribeToDelivery(deliveryId, byDelivery::add);
+        hub.subscribeToCourier(courierId, byCourier::add);
+        hub.subscribeToCourier(UUID.randomUUID(), otherCourier::add);
+
+        // When
+        hub.publish(update(DeliveryStatus.WAITING_FOR_COURIER, null));
+        hub.publish(update(DeliveryStatus.IN_TRANSIT, courierId));
+        hub.publish(update(DeliveryStatus.DELIVERY, courierId));
+
+        // Then
+        await(() -> byDelivery.size() == 3 && byCourier.size() == 2);
+        assertEquals(List.of(DeliveryStatus.WAITING_FOR_COURIER, DeliveryStatus.IN_TRANSIT, DeliveryStatus.DELIVERY),
+                byDelivery.stream().map(TrackingUpdate::status).toList());
+        assertEquals(List.of(DeliveryStatus.IN_TRANSIT, DeliveryStatus.DELIVERY),
+                byCourier.stream().map(TrackingUpdate::status).toList());
+        assertTrue(otherCourier.isEmpty());
+        assertEquals(3, hub.subscribers());
+    }
+
+    @Test
+    void shouldNotBlockPublishersAndDropOldestForSlowSubscribers() throws InterruptedException {
+        // Given - o primeiro envio fica preso até o latch abrir
+        CountDownLatch release = new CountDownLatch(1);
+        List<OffsetDateTime> received = new CopyOnWriteArrayList<>();
+        TrackingSubscription slow = hub.subscribeToDelivery(deliveryId, update -> {
+            release.await();
+            received.add(update.occurredAt());
+        });
+        OffsetDateTime start = OffsetDateTime.now();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            hub.publish(new TrackingUpdate(deliveryId, DeliveryStatus.IN_TRANSIT, courierId, start.plusSeconds(i)));
+        }
+        release.countDown();
+
+        // Then - o envio em curso mais as 16 últimas; as demais foram descartadas
+        await(() -> received.size() + slow.dropped() == 100);
+        assertTrue(slow.dropped() >= 83);
+        assertEquals(100 - slow.dropped(), received.size());
+        assertEquals(start.plusSeconds(99), received.getLast());
+        assertEquals(slow.dropped(), hub.dropped());
+    }
+
+    @Test
+    void shouldDropUpdatesOlderThanTheLastOneForADelivery() throws InterruptedException {
+        // Given - a transição chegou antes do status atual lido após a assinatura
+        List<TrackingUpdate> received = new CopyOnWriteArrayList<>();
+        TrackingSubscription subscription = hub.subscribeToDelivery(deliveryId, received::add);
+        OffsetDateTime placedAt = OffsetDateTime.now();
+        TrackingUpdate transition = new TrackingUpdate(deliveryId, DeliveryStatus.IN_TRANSIT, courierId, placedAt.plusSeconds(30));
+
+        // When
+        hub.publish(transition);
+        hub.send(subscription, new TrackingUpdate(deliveryId, DeliveryStatus.WAITING_FOR_COURIER, null, placedAt));
+        hub.send(subscription, transition);
+        hub.publish(new TrackingUpdate(deliveryId, DeliveryStatus.DELIVERY, courierId, placedAt.plusSeconds(60)));
+
+        // Then
+        await(() -> received.size() == 2);
+        assertEquals(List.of(DeliveryStatus.IN_TRANSIT, DeliveryStatus.DELIVERY),
+                received.stream().map(TrackingUpdate::status).toList());
+        assertEquals(0, subscription.dropped());
+    }
+
+    @Test
+    void shouldUnsubscribeWhenSendingFails() throws InterruptedException {
+        // Given
+        TrackingSubscription broken = hub.subscribeToDelivery(deliveryId, update -> {
+            throw new IOException("conexão encerrada");
+        });
+
+        // When
+        hub.publish(update(DeliveryStatus.WAITING_FOR_COURIER, null));
+
+        // Then
+        await(broken::isClosed);
+        assertEquals(0, hub.subscribers());
+    }
+
+    private TrackingUpdate update(DeliveryStatus status, UUID courier) {
+        return new TrackingUpdate(deliveryId, status, courier, OffsetDateTime.now());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condição não atingida em 5s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.edudeveloper.delivery.Delivery.Trackin.infrastructure.wire;
+
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryFulfilledEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryLateEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.event.DeliveryPlacedEvent;
+import com.edudeveloper.delivery.Delivery.Trackin.domain.model.DeliveryStatus;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryEventCodecTest {
+
+    // Quadro de referência; o teste do Courier-Management decodifica os mesmos bytes
+    private static final String FULFILLED_FRAME = "0101020301000000000000000001000000000000000200000000000000030000000000000004"
+            + "00000000000003e80000000000000000";
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 3, 10, 14, 30, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void shouldRoundTripDomainEvents() {
+        // Given
+        UUID deliveryId = UUID.randomUUID();
+        UUID courierId = UUID.randomUUID();
+        List<DeliveryEventMessage> messages = List.of(
+                DeliveryEventMessage.from(new DeliveryPlacedEvent(NOW, deliveryId, NOW.plusHours(2))),
+                DeliveryEventMessage.from(new DeliveryFulfilledEvent(NOW.plusHours(1), deliveryId, courierId)),
+                DeliveryEventMessage.from(new DeliveryLateEvent(NOW.plusHours(3), deliveryId, NOW.plusHours(2))));
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        // When
+        DeliveryEventCodec.encode(messages, buffer);
+        int written = buffer.position();
+        List<DeliveryEventMessage> decoded = DeliveryEventCodec.decode(buffer.flip());
+
+        // Then
+        assertEquals(DeliveryEventCodec.frameSize(3), written);
+        assertEquals(written, buffer.position());
+        assertEquals(messages, decoded);
+        assertEquals(DeliveryStatus.DELIVERY, decoded.get(1).status());
+        assertEquals(courierId, decoded.get(1).courierId());
+        assertNull(decoded.get(0).courierId());
+        assertNull(decoded.get(2).status());
+    }
+
+    @Test
+    void shouldEncodeAgreedLayout() {
+        // Given
+        DeliveryEventMessage message = new DeliveryEventMessage(DeliveryEventType.FULFILLED, new UUID(1, 2), new UUID(3, 4),
+                DeliveryStatus.DELIVERY, Instant.ofEpochMilli(1000), null);
+        ByteBuffer buffer = ByteBuffer.allocate(DeliveryEventCodec.frameSize(1));
+
+        // When
+        DeliveryEventCodec.encode(List.of(message), buffer);
+
+        // Then
+        assertEquals(FULFILLED_FRAME, HexFormat.of().formatHex(buffer.array()));
+    }
+
+    @Test
+    void shouldReadFieldsInPlaceAndJumpToAnyEvent() {
+        // Given: mais de 127 eventos, contador com 2 bytes
+        List<DeliveryEventMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            messages.add(new DeliveryEventMessage(DeliveryEventType.PICKED_UP, UUID.randomUUID(), UUID.randomUUID(),
+                    DeliveryStatus.IN_TRANSIT, Instant.ofEpochMilli(1_000L * i), null));
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DeliveryEventCodec.frameSize(300));
+        DeliveryEventCodec.encode(messages, buffer);
+        buffer.flip();
+
+        // When
+        DeliveryEventFlyweight event = new DeliveryEventFlyweight().wrap(buffer).moveTo(257);
+
+        // Then
+        assertEquals(300, event.count());
+        assertEquals(buffer.limit(), event.frameSize());
+        assertEquals(0, buffer.position());
+        assertEquals(DeliveryEventType.PICKED_UP, event.type());
+        assertEquals(messages.get(257).deliveryId().getMostSignificantBits(), event.deliveryIdMostSigBits());
+        assertEquals(messages.get(257).courierId(), event.courierId());
+        assertEquals(257_000L, event.occurredAtMillis());
+        assertFalse(event.hasReferenceAt());
+    }
+
+    @Test
+    void shouldRejectSmallBufferAndTruncatedFrame() {
+        // Given
+        List<DeliveryEventMessage> messages = List.of(new DeliveryEventMessage(DeliveryEventType.PLACED,
+                UUID.randomUUID(), null, DeliveryStatus.WAITING_FOR_COURIER, Instant.now(), null));
+        ByteBuffer buffer = ByteBuffer.allocate(DeliveryEventCodec.frameSize(1));
+        DeliveryEventCodec.encode(messages, buffer);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> DeliveryEventCodec.encode(messages, ByteBuffer.allocate(DeliveryEventCodec.frameSize(1) - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DeliveryEventFlyweight().wrap(buffer.flip().limit(buffer.limit() - 1)));
+    }
+
+    @Test
+    void shouldRejectUnknownTypeAndStatusOrdinals() {
+        // Given - byte 2 é o tipo e byte 3 o status do primeiro evento
+        byte[] unknownType = HexFormat.of().parseHex(FULFILLED_FRAME);
+        unknownType[2] = 0x7F;
+        byte[] unknownStatus = HexFormat.of().parseHex(FULFILLED_FRAME);
+        unknownStatus[3] = (byte) 0x80;
+
+        // When & Then
+        IllegalArgumentException type = assertThrows(IllegalArgumentException.class,
+                () -> DeliveryEventCodec.decode(ByteBuffer.wrap(unknownType)));
+        IllegalArgumentException status = assertThrows(IllegalArgumentException.class,
+                () -> DeliveryEventCodec.decode(ByteBuffer.wrap(unknownStatus)));
+        assertTrue(type.getMessage().endsWith(": 127"));
+        assertTrue(status.getMessage().endsWith(": 128"));
+    }
+
+    @Test
+    void shouldReuseReleasedBuffers() {
+        // Given
+        ByteBufferPool pool = new ByteBufferPool(1024, 1);
+        ByteBuffer first = pool.acquire();
+        first.put((byte) 1);
+
+        // When
+        pool.release(first);
+        pool.release(ByteBuffer.allocateDirect(1024));
+        ByteBuffer second = pool.acquire();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(0, second.position());
+        assertEquals(0, pool.pooled());
+    }
+}